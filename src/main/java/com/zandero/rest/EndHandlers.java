@@ -0,0 +1,118 @@
+package com.zandero.rest;
+
+import com.zandero.rest.metrics.RequestTiming;
+import com.zandero.rest.metrics.RouteMetrics;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handlers invoked once when response is ended or connection is closed (single end handler per request)
+ * Route metrics are recorded directly, so a request of a route collecting only metrics allocates this instance alone
+ */
+final class EndHandlers implements Handler<Void> {
+
+	private final static Logger log = LoggerFactory.getLogger(EndHandlers.class);
+
+	private static final String CONTEXT_KEY = "RestRouter-EndHandlers";
+
+	private final RoutingContext context;
+
+	private RouteMetrics metrics;
+
+	private long start;
+
+	private RequestTiming timing;
+
+	/**
+	 * additional handlers (timeout, limiter, coalescing ...), allocated once needed
+	 */
+	private List<Handler<Void>> handlers;
+
+	private boolean done;
+
+	private EndHandlers(RoutingContext context) {
+
+		this.context = context;
+	}
+
+	/**
+	 * @param context current request
+	 * @return end handlers of request, registered once created
+	 */
+	static EndHandlers get(RoutingContext context) {
+
+		EndHandlers end = context.get(CONTEXT_KEY);
+		if (end == null) {
+			end = new EndHandlers(context);
+			context.put(CONTEXT_KEY, end);
+
+			// body end handlers are chained by context ... a response end handler given by REST or writer doesn't replace it
+			context.addBodyEndHandler(end);
+			// connection closed before response was ended
+			context.response().endHandler(end).closeHandler(end);
+		}
+
+		return end;
+	}
+
+	/**
+	 * Records request into route metrics once response is ended
+	 *
+	 * @param routeMetrics  metrics of route
+	 * @param startTime     start of request (nanoTime)
+	 * @param requestTiming sampled request phases or null if not sampled
+	 */
+	void record(RouteMetrics routeMetrics, long startTime, RequestTiming requestTiming) {
+
+		metrics = routeMetrics;
+		start = startTime;
+		timing = requestTiming;
+	}
+
+	void add(Handler<Void> handler) {
+
+		if (handlers == null) {
+			handlers = new ArrayList<>(2);
+		}
+
+		handlers.add(handler);
+	}
+
+	@Override
+	public void handle(Void event) {
+
+		if (done) { // invoke once
+			return;
+		}
+
+		done = true;
+
+		if (metrics != null) {
+			HttpServerResponse response = context.response();
+			metrics.record(response.ended() ? response.getStatusCode() : 0, System.nanoTime() - start);
+
+			if (timing != null) { // writer ends response while write and event phases are still timed ... record once finished
+				RouteMetrics routeMetrics = metrics;
+				RequestTiming requestTiming = timing;
+				context.vertx().runOnContext(x -> routeMetrics.record(requestTiming));
+			}
+		}
+
+		if (handlers != null) {
+			for (Handler<Void> handler : handlers) {
+				try {
+					handler.handle(null);
+				}
+				catch (Throwable e) {
+					log.error("Failed to invoke response end handler: ", e);
+				}
+			}
+		}
+	}
+}
@@ -1,11 +1,17 @@
 package com.zandero.rest;
 
+import com.zandero.rest.cache.AuthorizationCache;
+import com.zandero.rest.cache.ResponseCaches;
+import com.zandero.rest.concurrency.ConcurrencyLimitProvider;
+import com.zandero.rest.concurrency.ConcurrencyLimiters;
 import com.zandero.rest.context.ContextProvider;
 import com.zandero.rest.data.ClassFactory;
 import com.zandero.rest.data.MediaTypeHelper;
 import com.zandero.rest.exception.ClassFactoryException;
 import com.zandero.rest.exception.ExceptionHandler;
 import com.zandero.rest.injection.InjectionProvider;
+import com.zandero.rest.invoker.InvokerProvider;
+import com.zandero.rest.metrics.MetricsRegistry;
 import com.zandero.rest.reader.ValueReader;
 import com.zandero.rest.writer.HttpResponseWriter;
 import com.zandero.rest.writer.NotFoundResponseWriter;
@@ -62,6 +68,56 @@ public class RestBuilder {
 	 */
 	private Validator validator = null;
 
+	/**
+	 * REST method invoker provider (null for default)
+	 */
+	private InvokerProvider invokerProvider = null;
+
+	/**
+	 * Time limit for @NonBlocking REST execution (null to leave as is)
+	 */
+	private Long nonBlockingGuard = null;
+
+	/**
+	 * Execute blocking RESTs on virtual threads
+	 */
+	private boolean virtualThreads = false;
+
+	/**
+	 * Time limit of REST execution in milliseconds (0 for no limit)
+	 */
+	private long timeout = 0;
+
+	/**
+	 * Adaptive concurrency limit provider (null for default)
+	 */
+	private ConcurrencyLimitProvider limitProvider = null;
+
+	/**
+	 * Collect route metrics
+	 */
+	private boolean collectMetrics = false;
+
+	/**
+	 * Path to expose collected metrics on (null if not exposed)
+	 */
+	private String metricsPath = null;
+
+	/**
+	 * Share of requests with timed lifecycle phases (0 to disable)
+	 */
+	private double phaseSampling = 0;
+
+	/**
+	 * Add Server-Timing header to sampled responses
+	 */
+	private boolean serverTiming = false;
+
+	/**
+	 * Authorization decision cache (null to check roles on every request)
+	 */
+	private AuthorizationCache authorizationCache = null;
+
 	public RestBuilder(Router router) {
 
 		Assert.notNull(router, "Missing vertx router!");
@@ -390,6 +446,162 @@ public class RestBuilder {
 		return this;
 	}
 
+	/**
+	 * Binds REST methods with given invoker provider instead of default one
+	 *
+	 * @param provider to bind REST methods
+	 * @return rest builder
+	 */
+	public RestBuilder invokeWith(InvokerProvider provider) {
+		invokerProvider = provider;
+		return this;
+	}
+
+	/**
+	 * Provides adaptive concurrency limits for RESTs with @MaxConcurrency(adaptive = true) instead of default gradient limit
+	 *
+	 * @param provider of adaptive limits
+	 * @return rest builder
+	 */
+	public RestBuilder limitWith(ConcurrencyLimitProvider provider) {
+		limitProvider = provider;
+		return this;
+	}
+
+	/**
+	 * Time limit of REST execution for RESTs without @Timeout annotation, once passed request is answered with 503
+	 *
+	 * @param millis time limit in milliseconds, 0 for no limit
+	 * @return rest builder
+	 */
+	public RestBuilder timeout(long millis) {
+		Assert.isTrue(millis >= 0, "Timeout must be >= 0!");
+		timeout = millis;
+		return this;
+	}
+
+	/**
+	 * Collects request count, status and latency metrics of all RESTs
+	 *
+	 * @param enabled true to collect metrics
+	 * @return rest builder
+	 */
+	public RestBuilder collectMetrics(boolean enabled) {
+		collectMetrics = enabled;
+		return this;
+	}
+
+	/**
+	 * Collects metrics of all RESTs and exposes them as text or JSON on given path
+	 *
+	 * @param path to expose metrics on, for instance: "/metrics"
+	 * @return rest builder
+	 */
+	public RestBuilder exposeMetrics(String path) {
+		Assert.notNullOrEmptyTrimmed(path, "Missing metrics path!");
+		collectMetrics = true;
+		metricsPath = path;
+		return this;
+	}
+
+	/**
+	 * Times lifecycle phases of sampled requests (worker queue wait, argument extraction, validation, invocation,
+	 * writer resolution, writing and events), phase latencies are collected as route metrics
+	 *
+	 * @param sampleRate share of timed requests between 0 and 1, for instance 0.01 to time every 100th request
+	 * @return rest builder
+	 */
+	public RestBuilder timePhases(double sampleRate) {
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1!");
+		phaseSampling = sampleRate;
+		return this;
+	}
+
+	/**
+	 * Adds Server-Timing header with phase durations to responses of sampled requests (for debugging)
+	 *
+	 * @param enabled true to add header
+	 * @return rest builder
+	 */
+	public RestBuilder serverTiming(boolean enabled) {
+		serverTiming = enabled;
+		return this;
+	}
+
+	/**
+	 * Caches authorization decisions (@RolesAllowed) per user (principal subject or username) and role set of route
+	 *
+	 * @param ttlMillis  time to live of cached decision in milliseconds
+	 * @param maxEntries max number of cached decisions
+	 * @return rest builder
+	 */
+	public RestBuilder cacheAuthorization(long ttlMillis, int maxEntries) {
+		return cacheAuthorization(new AuthorizationCache(ttlMillis, maxEntries));
+	}
+
+	/**
+	 * Caches authorization decisions (@RolesAllowed) per user and role set of route
+	 *
+	 * @param cache authorization cache (with custom user identity)
+	 * @return rest builder
+	 */
+	public RestBuilder cacheAuthorization(AuthorizationCache cache) {
+		Assert.notNull(cache, "Missing authorization cache!");
+		authorizationCache = cache;
+		return this;
+	}
+
+	/**
+	 * Logs a warning when @NonBlocking REST executes longer than given time limit on event loop
+	 *
+	 * @param millis time limit in milliseconds, 0 to disable
+	 * @return rest builder
+	 */
+	public RestBuilder guardNonBlocking(long millis) {
+		Assert.isTrue(millis >= 0, "Non blocking time limit must be >= 0!");
+		nonBlockingGuard = millis;
+		return this;
+	}
+
+	/**
+	 * Executes blocking RESTs on virtual threads instead of worker pool if supported by runtime (JDK 21+)
+	 *
+	 * @param enabled true to execute on virtual threads
+	 * @return rest builder
+	 */
+	public RestBuilder executeOnVirtualThreads(boolean enabled) {
+		virtualThreads = enabled;
+		return this;
+	}
+
+	/**
+	 * @return response caches of routes with @Cached annotation, to invalidate cached responses or read cache statistics
+	 */
+	public ResponseCaches getResponseCaches() {
+		return RestRouter.getResponseCaches();
+	}
+
+	/**
+	 * @return concurrency limiters of routes with @MaxConcurrency annotation, to read current limit, in flight, queued and rejected request counts
+	 */
+	public ConcurrencyLimiters getConcurrencyLimiters() {
+		return RestRouter.getConcurrencyLimiters();
+	}
+
+	/**
+	 * @return collected request count, status and latency metrics of routes
+	 */
+	public MetricsRegistry getMetrics() {
+		return RestRouter.getMetrics();
+	}
+
+	/**
+	 * @return authorization cache, to invalidate decisions or read hit ratio, or null if decisions are not cached
+	 */
+	public AuthorizationCache getAuthorizationCache() {
+		return RestRouter.getAuthorizationCache();
+	}
+
 	public RestBuilder injectWith(Class<? extends InjectionProvider> provider) {
 		try {
 			injectionProvider = (InjectionProvider) ClassFactory.newInstanceOf(provider);
@@ -417,6 +629,18 @@ public class RestBuilder {
 
 		RestRouter.injectWith(injectionProvider);
 		RestRouter.validateWith(validator);
+		RestRouter.invokeWith(invokerProvider);
+		RestRouter.executeOnVirtualThreads(virtualThreads);
+		RestRouter.limitWith(limitProvider);
+		RestRouter.timeout(timeout);
+		RestRouter.collectMetrics(collectMetrics);
+		RestRouter.timePhases(phaseSampling);
+		RestRouter.serverTiming(serverTiming);
+		RestRouter.cacheAuthorization(authorizationCache);
+
+		if (nonBlockingGuard != null) {
+			RestRouter.guardNonBlocking(nonBlockingGuard);
+		}
 
 		if (registeredProviders.size() > 0) {
 
@@ -544,6 +768,10 @@ public class RestBuilder {
 			}
 		});
 
+		if (metricsPath != null) {
+			RestRouter.exposeMetrics(output, metricsPath);
+		}
+
 		for (String path : notFound.keySet()) {
 			Object notFoundHandler = notFound.get(path);
 			if (notFoundHandler instanceof Class) {
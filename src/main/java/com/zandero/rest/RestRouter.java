@@ -1,22 +1,38 @@
 package com.zandero.rest;
 
+import com.zandero.rest.cache.*;
+import com.zandero.rest.concurrency.*;
 import com.zandero.rest.context.ContextProvider;
 import com.zandero.rest.context.ContextProviderFactory;
+import com.zandero.rest.context.Deadline;
 import com.zandero.rest.data.*;
 import com.zandero.rest.events.RestEventExecutor;
 import com.zandero.rest.exception.*;
+import com.zandero.rest.executor.VirtualThreadExecutor;
 import com.zandero.rest.injection.InjectionProvider;
+import com.zandero.rest.invoker.InvokerProvider;
+import com.zandero.rest.invoker.MethodHandleInvokerProvider;
+import com.zandero.rest.invoker.MethodInvoker;
+import com.zandero.rest.metrics.MetricsRegistry;
+import com.zandero.rest.metrics.Phase;
+import com.zandero.rest.metrics.RequestTiming;
+import com.zandero.rest.metrics.RouteMetrics;
 import com.zandero.rest.reader.ReaderFactory;
 import com.zandero.rest.reader.ValueReader;
+import com.zandero.rest.writer.ChunkedResponseWriter;
 import com.zandero.rest.writer.GenericResponseWriter;
 import com.zandero.rest.writer.HttpResponseWriter;
 import com.zandero.rest.writer.NotFoundResponseWriter;
+import com.zandero.rest.writer.WriterCache;
 import com.zandero.rest.writer.WriterFactory;
 import com.zandero.utils.Assert;
-import io.vertx.core.CompositeFuture;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
@@ -31,18 +47,16 @@ import io.vertx.ext.web.handler.CorsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
-import javax.validation.executable.ExecutableValidator;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Builds up a vert.x route based on JAX-RS annotation provided in given class
@@ -52,6 +66,11 @@ public class RestRouter {
 	public static final int ORDER_CORS_HANDLER = -10;
 	public static final int ORDER_PROVIDER_HANDLER = -5;
 
+	/**
+	 * Default time limit in milliseconds for @NonBlocking REST execution in development environment
+	 */
+	public static final long DEFAULT_NON_BLOCKING_GUARD = 10;
+
 	private final static Logger log = LoggerFactory.getLogger(RestRouter.class);
 
 	private static final WriterFactory writers = new WriterFactory();
@@ -64,9 +83,66 @@ public class RestRouter {
 
 	private static final RestEventExecutor eventExecutor = new RestEventExecutor();
 
+	private static final ResponseCaches responseCaches = new ResponseCaches();
+
+	private static final ConcurrencyLimiters concurrencyLimiters = new ConcurrencyLimiters();
+
+	private static final MetricsRegistry metrics = new MetricsRegistry();
+
 	private static InjectionProvider injectionProvider;
 	private static Validator validator;
 
+	/**
+	 * binds REST methods to invokers when routes are registered
+	 */
+	private static InvokerProvider invokerProvider = new MethodHandleInvokerProvider();
+
+	/**
+	 * Time limit in milliseconds for @NonBlocking REST to execute on event loop before a warning is logged,
+	 * enabled by default in development environment (VERTXWEB_ENVIRONMENT=dev), 0 to disable
+	 */
+	private static long nonBlockingGuard = isDevelopment() ? DEFAULT_NON_BLOCKING_GUARD : 0;
+
+	/**
+	 * Number of @NonBlocking REST executions exceeding non blocking time limit
+	 */
+	private static final LongAdder nonBlockingWarnings = new LongAdder();
+
+	/**
+	 * Time limit in milliseconds of REST execution (if not defined otherwise on REST), 0 for no limit
+	 */
+	private static long timeout = 0;
+
+	/**
+	 * provides adaptive concurrency limits of routes with @MaxConcurrency(adaptive = true)
+	 */
+	private static ConcurrencyLimitProvider limitProvider = RestRouter::getGradientLimit;
+
+	/**
+	 * Execute blocking RESTs on virtual threads (if not defined otherwise on REST)
+	 */
+	private static boolean virtualThreads = false;
+
+	/**
+	 * Collect request count, status and latency metrics of routes
+	 */
+	private static boolean collectMetrics = false;
+
+	/**
+	 * Share of requests (0 - 1) with timed lifecycle phases, 0 to disable
+	 */
+	private static double phaseSampling = 0;
+
+	/**
+	 * Add Server-Timing header with phase durations to sampled responses
+	 */
+	private static boolean serverTiming = false;
+
+	/**
+	 * Caches authorization decisions of users per role set, null to check roles on every request
+	 */
+	private static AuthorizationCache authorizationCache = null;
+
 	/**
 	 * Searches for annotations to register routes ...
 	 *
@@ -151,12 +227,27 @@ public class RestRouter {
 					route.order(definition.getOrder());
 				}
 
-				// check body and reader compatibility beforehand
-				checkBodyReader(definition);
+				// measure whole request including body reading and security checks
+				if (collectMetrics || phaseSampling > 0) {
+					route.handler(getMetricsHandler(metrics.register(definition), phaseSampling, serverTiming));
+				}
 
 				// add BodyHandler in case request has a body ...
-				if (definition.requestHasBody()) {
-					route.handler(BodyHandler.create());
+				if (definition.streamsBody()) {
+					// body is consumed by REST method, hold it back until method starts reading
+					// and drain it in case it was not read (or request was answered beforehand)
+					route.handler(context -> {
+						RequestBodyStream body = RequestBodyStream.hold(context);
+						addEndHandler(context, v -> body.release());
+						context.next();
+					});
+				} else {
+					// check body and reader compatibility beforehand
+					checkBodyReader(definition);
+
+					if (definition.requestHasBody()) {
+						route.handler(BodyHandler.create());
+					}
 				}
 
 				// add CookieHandler in case cookies are expected
@@ -169,15 +260,56 @@ public class RestRouter {
 					route.handler(getSecurityHandler(definition));
 				}
 
+				// answer conditional requests by version key before REST is invoked
+				if (definition.hasETag() && definition.getETagVersion() != null) {
+					route.handler(getETagHandler(definition));
+				}
+
+				// serve cached responses before arguments are extracted and REST is invoked
+				if (definition.getCached() != null) {
+					route.handler(getCacheHandler(responseCaches.register(definition)));
+				}
+
+				// identical concurrent requests wait for response of first request (single flight)
+				if (definition.getCoalesce() != null) {
+					route.handler(getCoalesceHandler(new RequestCoalescer(definition.getCoalesce().timeout(), definition.getCoalesce().key())));
+				}
+
+				// bound number of concurrently executed requests ... excess requests are queued or rejected
+				if (definition.getMaxConcurrency() != null) {
+					route.handler(getConcurrencyLimitHandler(definition, concurrencyLimiters.register(definition, limitProvider)));
+				}
+
+				// time limit of REST execution (time spent waiting for permit is bound by concurrency queue timeout)
+				long timeLimit = definition.getTimeout() != null ? definition.getTimeout().value() : timeout;
+				if (timeLimit > 0) {
+					boolean interrupt = definition.getTimeout() == null || definition.getTimeout().interrupt();
+					route.handler(getTimeoutHandler(definition, timeLimit, interrupt));
+				}
+
 				// bind handler // blocking or async
 				Handler<RoutingContext> handler;
 				Method method = definitions.get(definition);
 
+				// resolve arguments and bind method once ... reused on every request
+				ArgumentExtractor[] arguments = ArgumentProvider.compile(method, definition, readers, providers);
+				MethodInvoker invoker = invokerProvider.bind(api, method);
+				WriterCache writerCache = new WriterCache(writers);
+
+				// validate only methods with constrained arguments or result (validator is resolved on request)
+				RouteValidator validation = new RouteValidator(api, method, definition);
+
 				if (definition.isAsync()) {
-					handler = getAsyncHandler(api, definition, method);
+					handler = getAsyncHandler(definition, validation, arguments, invoker, writerCache);
+				} else if (definition.executeNonBlocking()) {
+					checkWriterCompatibility(definition);
+					handler = getNonBlockingHandler(definition, validation, arguments, invoker, writerCache);
+				} else if (executeOnVirtualThread(definition)) {
+					checkWriterCompatibility(definition);
+					handler = getVirtualThreadHandler(definition, validation, arguments, invoker, writerCache);
 				} else {
 					checkWriterCompatibility(definition);
-					handler = getHandler(api, definition, method);
+					handler = getHandler(definition, validation, arguments, invoker, writerCache);
 				}
 
 				route.handler(handler);
@@ -370,6 +502,27 @@ public class RestRouter {
 		}
 	}
 
+	/**
+	 * Resolves writer once per response type and accepted content type, resolved writers are cached per route
+	 */
+	private static HttpResponseWriter getWriter(WriterCache writerCache,
+	                                            Class returnType,
+	                                            RouteDefinition definition,
+	                                            RoutingContext context) throws ClassFactoryException, ContextException {
+
+		String accept = context.getAcceptableContentType();
+
+		HttpResponseWriter writer = writerCache.get(returnType, accept, injectionProvider, context);
+		if (writer != null) {
+			return writer;
+		}
+
+		int version = writers.getVersion(); // take version before resolving, so a concurrent registration is not missed
+		writer = getWriter(injectionProvider, returnType, definition, context);
+		writerCache.put(returnType, accept, injectionProvider, version, writer);
+		return writer;
+	}
+
 	private static HttpResponseWriter getWriter(InjectionProvider injectionProvider,
 	                                            Class returnType,
 	                                            RouteDefinition definition,
@@ -407,108 +560,472 @@ public class RestRouter {
 
 	private static Handler<RoutingContext> getSecurityHandler(final RouteDefinition definition) {
 
+		// allow all or deny all ... decided once
+		if (definition.getPermitAll() != null) {
+
+			if (definition.getPermitAll()) {
+				return RoutingContext::next;
+			}
+
+			return context -> unauthorized(context, definition);
+		}
+
+		final String[] roles = definition.getRoles();
+		final String roleSet = roles != null && roles.length > 0 ? AuthorizationCache.getRoles(roles) : null;
+
 		return context -> {
 
-			boolean allowed = isAllowed(context.user(), definition);
-			if (allowed) {
-				context.next();
-			} else {
-				handleException(new ExecuteException(Response.Status.UNAUTHORIZED.getStatusCode(), "HTTP 401 Unauthorized"), context, definition);
+			User user = context.user();
+			if (user == null || roleSet == null) { // no user present ... can't check
+				unauthorized(context, definition);
+				return;
+			}
+
+			AuthorizationCache cache = authorizationCache; // might be given or replaced once routes are registered
+			String key = cache != null ? cache.getKey(user, roleSet) : null;
+			if (key != null) {
+				Boolean granted = cache.get(key);
+				if (granted != null) {
+					decide(granted, context, definition);
+					return;
+				}
 			}
+
+			Context requestContext = Vertx.currentContext();
+			long start = System.nanoTime();
+
+			authorize(user, roles, 0, null, result -> {
+
+				boolean granted = result.succeeded() && result.result();
+				if (key != null && result.succeeded()) { // failed checks are not cached
+					cache.put(key, granted, System.nanoTime() - start);
+				}
+
+				if (requestContext == null || requestContext == Vertx.currentContext()) {
+					decide(granted, context, definition);
+				} else { // completed by provider on other thread ... continue on request context
+					requestContext.runOnContext(v -> decide(granted, context, definition));
+				}
+			});
 		};
 	}
 
-	private static boolean isAllowed(User user, RouteDefinition definition) {
-
-		if (definition.getPermitAll() != null) {
-			// allow all or deny all
-			return definition.getPermitAll();
-		}
+	/**
+	 * Checks roles one by one until first role is granted
+	 *
+	 * @param user    current user
+	 * @param roles   allowed roles
+	 * @param index   of role to check
+	 * @param failure of previous role check (if any)
+	 * @param handler completed with true if granted, false if denied or failed if denied and some role check failed
+	 */
+	private static void authorize(User user, String[] roles, int index, Throwable failure, Handler<AsyncResult<Boolean>> handler) {
 
-		if (user == null) {
-			return false; // no user present ... can't check
-		}
+		user.isAuthorized(roles[index], result -> {
 
-		// check if given user is authorized for given role ...
-		List<Future> list = new ArrayList<>();
+			if (result.succeeded() && Boolean.TRUE.equals(result.result())) {
+				handler.handle(Future.succeededFuture(true));
+				return;
+			}
 
-		for (String role : definition.getRoles()) {
+			Throwable cause = result.failed() ? result.cause() : failure;
+			if (index + 1 < roles.length) {
+				authorize(user, roles, index + 1, cause, handler);
+			} else if (cause != null) {
+				handler.handle(Future.failedFuture(cause));
+			} else {
+				handler.handle(Future.succeededFuture(false));
+			}
+		});
+	}
 
-			Future<Boolean> future = Future.future();
-			user.isAuthorized(role, future.completer());
+	private static void decide(boolean granted, RoutingContext context, RouteDefinition definition) {
 
-			list.add(future);
+		if (granted) {
+			context.next();
+		} else {
+			unauthorized(context, definition);
 		}
+	}
+
+	private static void unauthorized(RoutingContext context, RouteDefinition definition) {
 
-		// compose multiple futures ... and return true if any of those return true
-		Future<CompositeFuture> output = Future.future();
-		CompositeFuture.all(list).setHandler(output.completer());
+		handleException(new ExecuteException(Response.Status.UNAUTHORIZED.getStatusCode(), "HTTP 401 Unauthorized", false), context, definition);
+	}
 
-		if (output.result() != null) {
+	private static Handler<RoutingContext> getETagHandler(final RouteDefinition definition) {
 
-			for (int index = 0; index < output.result().size(); index++) {
-				if (output.result().succeeded(index)) {
+		return context -> {
 
-					Object result = output.result().resultAt(index);
-					if (result instanceof Boolean && ((Boolean) result)) {
-						return true;
+			try {
+				ContextProvider provider = getContextProviders().getContextProvider(injectionProvider,
+				                                                                    null,
+				                                                                    definition.getETagVersion(),
+				                                                                    context);
+				Object version = provider.provide(context.request());
+				if (version != null) {
+
+					String tag = EntityTags.of(version, definition.isWeakETag());
+					if (EntityTags.notModified(context.request(), tag)) {
+						EntityTags.sendNotModified(context.response(), tag);
+						return;
 					}
+
+					context.response().putHeader(HttpHeaders.ETAG, tag);
 				}
+
+				context.next();
+			}
+			catch (Throwable e) {
+				handleException(e, context, definition);
+			}
+		};
+	}
+
+	private static Handler<RoutingContext> getCacheHandler(final ResponseCache cache) {
+
+		return context -> {
+
+			if (ResponseCache.isPersonal(context)) { // user specific response ... not cached
+				context.next();
+				return;
+			}
+
+			String key = cache.getKey(context);
+			CachedResponse cached = cache.get(key);
+			if (cached != null) {
+				cached.write(context.request(), context.response());
+				return;
 			}
-		}
 
-		return false;
+			cache.pending(context, key);
+			context.next();
+		};
 	}
 
-	private static Handler<RoutingContext> getHandler(final Object toInvoke, final RouteDefinition definition, final Method method) {
+	private static Handler<RoutingContext> getCoalesceHandler(final RequestCoalescer coalescer) {
 
-		return context -> context.vertx().executeBlocking(
-			fut -> {
-				try {
-					Object[] args = ArgumentProvider.getArguments(method, definition, context, readers, providers, injectionProvider);
-					validate(method, definition, validator, toInvoke, args);
+		return context -> {
+
+			if (ResponseCache.isPersonal(context)) { // user specific response ... not shared
+				context.next();
+				return;
+			}
+
+			RequestCoalescer.InFlight flight = coalescer.join(context);
+			if (flight == null) { // response of identical request in flight is sent once produced
+				return;
+			}
+
+			// response was not shared (failed, streamed or connection closed) ... waiting requests are invoked on their own
+			addEndHandler(context, v -> flight.release());
+			context.next();
+		};
+	}
+
+	private static Handler<RoutingContext> getMetricsHandler(final RouteMetrics routeMetrics, final double sampling, final boolean addHeader) {
+
+		return context -> {
+
+			long start = System.nanoTime();
+
+			boolean sampled = sampling >= 1 || (sampling > 0 && ThreadLocalRandom.current().nextDouble() < sampling);
+			RequestTiming timing = sampled ? RequestTiming.start(context) : null;
+
+			if (timing != null && addHeader) { // only phases finished before headers are sent are included
+				context.addHeadersEndHandler(v -> {
+					String header = timing.toServerTiming();
+					if (header.length() > 0) {
+						context.response().putHeader(RequestTiming.SERVER_TIMING, header);
+					}
+				});
+			}
+
+			// recorded by request end handler itself ... no closure per request
+			EndHandlers.get(context).record(routeMetrics, start, timing);
+			context.next();
+		};
+	}
+
+	private static Handler<RoutingContext> getConcurrencyLimitHandler(final RouteDefinition definition, final ConcurrencyLimiter limiter) {
+
+		return context -> limiter.acquire(context.vertx(), acquired -> {
+
+			if (context.response().closed()) { // client is gone while waiting in queue
+				limiter.release();
+				return;
+			}
+
+			// round trip time of request adjusts adaptive limit
+			long start = System.nanoTime();
+			addEndHandler(context, v -> {
+				HttpServerResponse response = context.response();
+				boolean dropped = !response.ended() || response.getStatusCode() == 503 || response.getStatusCode() == 504;
+				limiter.release(System.nanoTime() - start, dropped);
+			});
 
-					fut.complete(method.invoke(toInvoke, args));
+			context.next();
+
+		}, rejected -> handleException(new ConcurrencyLimitException(definition, limiter.getRetryAfter()), context, definition));
+	}
+
+	private static Handler<RoutingContext> getTimeoutHandler(final RouteDefinition definition, final long timeLimit, final boolean interrupt) {
+
+		return context -> {
+
+			Deadline deadline = new Deadline(timeLimit);
+			Deadline.put(context, deadline);
+
+			long timer = context.vertx().setTimer(timeLimit, id -> {
+				HttpServerResponse response = context.response();
+				if (response.headWritten()) { // result produced and still being written (streamed) ... time limit applies to execution only
+					return;
 				}
-				catch (Throwable e) {
-					fut.fail(e);
+
+				if (deadline.expire(interrupt) && !response.ended() && !response.closed()) {
+					handleException(new RequestTimeoutException(definition, timeLimit), context, definition);
 				}
-			},
-			definition.executeBlockingOrdered(), // false by default
-			res -> {
-				if (res.succeeded()) {
-					try {
-						Object result = res.result();
-						Class returnType = result != null ? result.getClass() : definition.getReturnType();
+			});
+
+			addEndHandler(context, v -> {
+				context.vertx().cancelTimer(timer);
+
+				if (!context.response().ended()) { // connection closed ... no need to continue
+					deadline.expire(interrupt);
+				}
+			});
+
+			context.next();
+		};
+	}
+
+	/**
+	 * @return true if request timed out (or connection was closed) and response has already been sent, late results are dropped
+	 */
+	private static boolean isLate(RoutingContext context) {
 
-						HttpResponseWriter writer = getWriter(injectionProvider,
-						                                      returnType,
-						                                      definition,
-						                                      context);
+		Deadline deadline = Deadline.get(context);
+		return deadline != null && (context.response().ended() || context.response().closed());
+	}
 
+	/**
+	 * Invokes REST, thread is interrupted in case REST exceeds time limit
+	 */
+	private static Object invoke(MethodInvoker invoker, Object[] args, RouteDefinition definition, RoutingContext context) throws Throwable {
+
+		Deadline deadline = Deadline.get(context);
+		if (deadline == null) {
+			return invoker.invoke(args);
+		}
 
-						validateResult(result, method, definition, validator, toInvoke);
-						produceResponse(result, context, definition, writer);
+		if (!deadline.bind()) { // expired while waiting for execution
+			throw new RequestTimeoutException(definition, deadline.getTimeout());
+		}
+
+		try {
+			return invoker.invoke(args);
+		}
+		finally {
+			deadline.unbind();
+		}
+	}
+
+	/**
+	 * Adds handler invoked once when response is ended or connection is closed
+	 *
+	 * @param context current request
+	 * @param handler to be invoked
+	 */
+	private static void addEndHandler(RoutingContext context, Handler<Void> handler) {
+
+		EndHandlers.get(context).add(handler);
+	}
+
+	private static Handler<RoutingContext> getHandler(final RouteDefinition definition,
+	                                                  final RouteValidator routeValidator,
+	                                                  final ArgumentExtractor[] arguments,
+	                                                  final MethodInvoker invoker,
+	                                                  final WriterCache writerCache) {
+
+		return context -> {
+
+			MethodValidator validation = routeValidator.get(validator);
+
+			RequestTiming timing = RequestTiming.get(context);
+			long queued = RequestTiming.mark(timing);
+
+			context.vertx().executeBlocking(
+				fut -> {
+					RequestTiming.record(timing, Phase.queue, queued);
+
+					try {
+						Object[] args = getArguments(arguments, context, timing);
+						validate(validation, args, timing);
+
+						long start = RequestTiming.mark(timing);
+						Object result = invoke(invoker, args, definition, context);
+						RequestTiming.record(timing, Phase.invoke, start);
+
+						fut.complete(result);
 					}
 					catch (Throwable e) {
-						handleException(e, context, definition);
+						fut.fail(e);
 					}
-				} else {
-					handleException(res.cause(), context, definition);
+				},
+				definition.executeBlockingOrdered(), // false by default
+				res -> {
+					if (res.succeeded()) {
+						try {
+							produceResult(res.result(), context, definition, validation, writerCache);
+						}
+						catch (Throwable e) {
+							handleException(e, context, definition);
+						}
+					} else {
+						handleException(res.cause(), context, definition);
+					}
+				}
+			);
+		};
+	}
+
+	private static Handler<RoutingContext> getVirtualThreadHandler(final RouteDefinition definition,
+	                                                               final RouteValidator routeValidator,
+	                                                               final ArgumentExtractor[] arguments,
+	                                                               final MethodInvoker invoker,
+	                                                               final WriterCache writerCache) {
+
+		return context -> {
+
+			// response is produced back on request context
+			Context requestContext = context.vertx().getOrCreateContext();
+			MethodValidator validation = routeValidator.get(validator);
+
+			RequestTiming timing = RequestTiming.get(context);
+			long queued = RequestTiming.mark(timing);
+
+			VirtualThreadExecutor.get().execute(() -> {
+
+				RequestTiming.record(timing, Phase.queue, queued);
+
+				try {
+					Object[] args = getArguments(arguments, context, timing);
+					validate(validation, args, timing);
+
+					long start = RequestTiming.mark(timing);
+					Object result = invoke(invoker, args, definition, context);
+					RequestTiming.record(timing, Phase.invoke, start);
+
+					requestContext.runOnContext(v -> {
+						try {
+							produceResult(result, context, definition, validation, writerCache);
+						}
+						catch (Throwable e) {
+							handleException(e, context, definition);
+						}
+					});
+				}
+				catch (Throwable e) {
+					requestContext.runOnContext(v -> handleException(e, context, definition));
+				}
+			});
+		};
+	}
+
+	private static boolean executeOnVirtualThread(RouteDefinition definition) {
+
+		if (definition.executeBlockingOrdered()) { // ordered execution is only provided by worker pool
+			return false;
+		}
+
+		boolean execute = definition.executeOnVirtualThread() != null ? definition.executeOnVirtualThread() : virtualThreads;
+		if (execute && !VirtualThreadExecutor.isSupported()) {
+			log.warn("Virtual threads not supported by runtime, executing: " + definition.toString().trim() + " on worker pool instead!");
+			return false;
+		}
+
+		return execute;
+	}
+
+	private static Handler<RoutingContext> getNonBlockingHandler(final RouteDefinition definition,
+	                                                             final RouteValidator routeValidator,
+	                                                             final ArgumentExtractor[] arguments,
+	                                                             final MethodInvoker invoker,
+	                                                             final WriterCache writerCache) {
+
+		return context -> {
+
+			boolean guard = nonBlockingGuard > 0;
+			long start = guard ? System.nanoTime() : 0;
+
+			try {
+				MethodValidator validation = routeValidator.get(validator);
+
+				RequestTiming timing = RequestTiming.get(context);
+				Object[] args = getArguments(arguments, context, timing);
+				validate(validation, args, timing);
+
+				long invoked = RequestTiming.mark(timing);
+				Object result = invoker.invoke(args);
+				RequestTiming.record(timing, Phase.invoke, invoked);
+
+				produceResult(result, context, definition, validation, writerCache);
+			}
+			catch (Throwable e) {
+				handleException(e, context, definition);
+			}
+			finally {
+				if (guard) {
+					checkNonBlocking(definition, start);
 				}
 			}
-		);
+		};
+	}
+
+	private static void checkNonBlocking(RouteDefinition definition, long start) {
+
+		long duration = (System.nanoTime() - start) / 1_000_000;
+		if (duration > nonBlockingGuard) {
+			nonBlockingWarnings.increment();
+			log.warn("@NonBlocking REST: " + definition.toString().trim() + " blocked event loop for: " + duration + "ms " +
+			         "(limit: " + nonBlockingGuard + "ms), consider executing it on worker pool instead!");
+		}
 	}
 
-	private static Handler<RoutingContext> getAsyncHandler(final Object toInvoke, final RouteDefinition definition, final Method method) {
+	private static void produceResult(Object result,
+	                                  RoutingContext context,
+	                                  RouteDefinition definition,
+	                                  MethodValidator validation,
+	                                  WriterCache writerCache) throws Throwable {
+
+		RequestTiming timing = RequestTiming.get(context);
+		long start = RequestTiming.mark(timing);
+
+		Class returnType = result != null ? result.getClass() : definition.getReturnType();
+		HttpResponseWriter writer = getWriter(writerCache, returnType, definition, context);
+		RequestTiming.record(timing, Phase.writer, start);
+
+		validateResult(result, validation, timing);
+		produceResponse(result, context, definition, writer);
+	}
+
+	private static Handler<RoutingContext> getAsyncHandler(final RouteDefinition definition,
+	                                                       final RouteValidator routeValidator,
+	                                                       final ArgumentExtractor[] arguments,
+	                                                       final MethodInvoker invoker,
+	                                                       final WriterCache writerCache) {
 
 		return context -> {
 
 			try {
-				Object[] args = ArgumentProvider.getArguments(method, definition, context, readers, providers, injectionProvider);
-				validate(method, definition, validator, toInvoke, args);
+				MethodValidator validation = routeValidator.get(validator);
+
+				RequestTiming timing = RequestTiming.get(context);
+				Object[] args = getArguments(arguments, context, timing);
+				validate(validation, args, timing);
 
-				Object result = method.invoke(toInvoke, args);
+				long invoked = RequestTiming.mark(timing);
+				Object result = invoker.invoke(args);
 
 				if (result instanceof Future) {
 					Future<?> fut = (Future) result;
@@ -516,23 +1033,24 @@ public class RestRouter {
 					// wait for future to complete ... don't block vertx event bus in the mean time
 					fut.setHandler(handler -> {
 
+						RequestTiming.record(timing, Phase.invoke, invoked); // until future is completed
+
 						if (fut.succeeded()) {
 
 							try {
 								Object futureResult = fut.result();
 
+								long start = RequestTiming.mark(timing);
 								HttpResponseWriter writer;
 								if (futureResult != null) { // get writer from result type otherwise we don't know
-									writer = getWriter(injectionProvider,
-									                   futureResult.getClass(),
-									                   definition,
-									                   context);
+									writer = getWriter(writerCache, futureResult.getClass(), definition, context);
 								} else { // due to limitations of Java generics we can't tell the type if response is null
 									Class<?> writerClass = definition.getWriter() == null ? GenericResponseWriter.class : definition.getWriter();
 									writer = (HttpResponseWriter) WriterFactory.newInstanceOf(writerClass);
 								}
+								RequestTiming.record(timing, Phase.writer, start);
 
-								validateResult(futureResult, method, definition, validator, toInvoke);
+								validateResult(futureResult, validation, timing);
 								produceResponse(futureResult, context, definition, writer);
 							}
 							catch (Throwable e) {
@@ -550,25 +1068,40 @@ public class RestRouter {
 		};
 	}
 
-	private static void validate(Method method, RouteDefinition definition, Validator validator, Object toInvoke, Object[] args) {
+	private static Object[] getArguments(ArgumentExtractor[] arguments, RoutingContext context, RequestTiming timing) throws Throwable {
+
+		long start = RequestTiming.mark(timing);
+		try {
+			return ArgumentProvider.getArguments(arguments, context, injectionProvider);
+		}
+		finally {
+			RequestTiming.record(timing, Phase.arguments, start);
+		}
+	}
+
+	private static void validate(MethodValidator validation, Object[] args, RequestTiming timing) {
 
 		// check method params first (if any)
-		if (validator != null && args != null) {
-			ExecutableValidator executableValidator = validator.forExecutables();
-			Set<ConstraintViolation<Object>> result = executableValidator.validateParameters(toInvoke, method, args);
-			if (result != null && result.size() > 0) {
-				throw new ConstraintException(definition, result);
+		if (validation != null && validation.validatesParameters()) {
+			long start = RequestTiming.mark(timing);
+			try {
+				validation.validateParameters(args);
+			}
+			finally {
+				RequestTiming.record(timing, Phase.validate, start);
 			}
 		}
 	}
 
-	private static void validateResult(Object result, Method method, RouteDefinition definition, Validator validator, Object toInvoke) {
+	private static void validateResult(Object result, MethodValidator validation, RequestTiming timing) {
 
-		if (validator != null) {
-			ExecutableValidator executableValidator = validator.forExecutables();
-			Set<ConstraintViolation<Object>> validationResult = executableValidator.validateReturnValue(toInvoke, method, result);
-			if (validationResult != null && validationResult.size() > 0) {
-				throw new ConstraintException(definition, validationResult);
+		if (validation != null && validation.validatesReturnValue()) {
+			long start = RequestTiming.mark(timing);
+			try {
+				validation.validateReturnValue(result);
+			}
+			finally {
+				RequestTiming.record(timing, Phase.validateResult, start);
 			}
 		}
 	}
@@ -598,55 +1131,71 @@ public class RestRouter {
 
 	private static void handleException(Throwable e, RoutingContext context, final RouteDefinition definition) {
 
-		ExecuteException ex = getExecuteException(e);
+		if (isLate(context)) {
+			log.debug("Dropping failure of timed out request: " + definition, e);
+			return;
+		}
+
+		// status and part of content were already sent (streamed or chunked response) ... can only abort response
+		HttpServerResponse sent = context.response();
+		if (sent.headWritten()) {
+			log.error("Failed to write response, closing connection: " + definition, e);
+			if (!sent.ended() && !sent.closed()) {
+				sent.close();
+			}
+			return;
+		}
+
+		// unwrapped exception to be handled and response status ... no wrapper is created
+		Throwable cause = unwrap(e);
+		int status = getStatusCode(cause);
 
 		// get appropriate exception handler/writer ...
 		ExceptionHandler handler;
 		try {
-			Class<? extends Throwable> clazz;
-			if (ex.getCause() == null) {
-				clazz = ex.getClass();
-			} else {
-				clazz = ex.getCause().getClass();
-			}
-
 			Class<? extends ExceptionHandler>[] exHandlers = null;
 			if (definition != null) {
 				exHandlers = definition.getExceptionHandlers();
 			}
 
-			handler = handlers.getExceptionHandler(clazz, exHandlers, injectionProvider, context);
+			handler = handlers.getExceptionHandler(cause.getClass(), exHandlers, injectionProvider, context);
 		}
 		catch (ClassFactoryException classException) {
 			// Can't provide exception handler ... rethrow
 			log.error("Can't provide exception handler!", classException);
 			// fall back to generic ...
 			handler = new GenericExceptionHandler();
-			ex = new ExecuteException(500, classException);
+			cause = classException;
+			status = 500;
 		}
 		catch (ContextException contextException) {
 			// Can't provide @Context for handler ... rethrow
 			log.error("Can't provide @Context!", contextException);
 			// fall back to generic ...
 			handler = new GenericExceptionHandler();
-			ex = new ExecuteException(500, contextException);
+			cause = contextException;
+			status = 500;
 		}
 
 		if (handler instanceof GenericExceptionHandler) {
 			log.error("Handling exception: ", e);
 		}
-		else {
+		else if (log.isDebugEnabled()) {
 			log.debug("Handling exception, with: " + handler.getClass().getName(), e);
 		}
 
 		HttpServerResponse response = context.response();
-		response.setStatusCode(ex.getStatusCode());
+		response.setStatusCode(status);
+		if (cause instanceof ConcurrencyLimitException) { // retry hint is sent regardless of handler used
+			response.putHeader(HttpHeaders.RETRY_AFTER, Integer.toString(((ConcurrencyLimitException) cause).getRetryAfter()));
+		}
+
 		handler.addResponseHeaders(definition, response);
 
 		try {
-			handler.write(ex.getCause(), context.request(), context.response());
+			handler.write(cause, context.request(), context.response());
 
-			eventExecutor.triggerEvents(ex.getCause(), response.getStatusCode(), definition, context, injectionProvider);
+			eventExecutor.triggerEvents(cause, response.getStatusCode(), definition, context, injectionProvider);
 		}
 		catch (Throwable handlerException) {
 			// this should not happen
@@ -659,26 +1208,30 @@ public class RestRouter {
 		}
 	}
 
-	private static ExecuteException getExecuteException(Throwable e) {
+	/**
+	 * @param e thrown exception
+	 * @return exception thrown by REST method (invocation exceptions are unwrapped)
+	 */
+	private static Throwable unwrap(Throwable e) {
 
-		if (e instanceof ExecuteException) {
-			ExecuteException ex = (ExecuteException) e;
-			return new ExecuteException(ex.getStatusCode(), ex.getMessage(), ex);
+		while ((e instanceof IllegalAccessException || e instanceof InvocationTargetException) && e.getCause() != null) {
+			e = e.getCause();
 		}
 
-		// unwrap invoke exception ...
-		if (e instanceof IllegalAccessException || e instanceof InvocationTargetException) {
+		return e;
+	}
 
-			if (e.getCause() != null) {
-				return getExecuteException(e.getCause());
-			}
+	private static int getStatusCode(Throwable e) {
+
+		if (e instanceof ExecuteException) {
+			return ((ExecuteException) e).getStatusCode();
 		}
 
 		if (e instanceof IllegalArgumentException) {
-			return new ExecuteException(400, e);
+			return 400;
 		}
 
-		return new ExecuteException(500, e);
+		return 500;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -687,23 +1240,85 @@ public class RestRouter {
 	                                    RouteDefinition definition,
 	                                    HttpResponseWriter writer) throws Throwable {
 
+		if (isLate(context)) {
+			log.debug("Dropping late result of timed out request: " + definition);
+			return;
+		}
+
 		HttpServerResponse response = context.response();
 		HttpServerRequest request = context.request();
 
+		// ETag is computed from response bytes and/or response is cached or shared ... response is sent once written
+		boolean tag = definition.hasETag() && definition.getETagVersion() == null;
+		ResponseCache.Pending pending = ResponseCache.getPending(context);
+		RequestCoalescer.InFlight flight = RequestCoalescer.getInFlight(context);
+
+		if ((tag || pending != null || flight != null) && !(writer instanceof ChunkedResponseWriter)) {
+			response = new BufferedResponse(response, buffered -> sendBuffered(buffered, request, definition, tag, pending, flight));
+		}
+
+		RequestTiming timing = RequestTiming.get(context);
+		long start = RequestTiming.mark(timing);
+
 		// add default response headers per definition (or from writer definition)
 		writer.addResponseHeaders(definition, response);
 		writer.write(result, request, response);
+		RequestTiming.record(timing, Phase.write, start);
 
 		// find and trigger events from // result / response
+		start = RequestTiming.mark(timing);
 		eventExecutor.triggerEvents(result, response.getStatusCode(), definition, context, injectionProvider);
+		RequestTiming.record(timing, Phase.events, start);
 
 		// finish if not finished by writer
 		// and is not an Async REST (Async RESTs must finish responses on their own)
-		if (!definition.isAsync() && !response.ended()) {
+		// chunked writers finish response once all elements are written
+		if (!definition.isAsync() && !response.ended() && !(writer instanceof ChunkedResponseWriter)) {
 			response.end();
 		}
 	}
 
+	private static void sendBuffered(BufferedResponse buffered,
+	                                 HttpServerRequest request,
+	                                 RouteDefinition definition,
+	                                 boolean tag,
+	                                 ResponseCache.Pending pending,
+	                                 RequestCoalescer.InFlight flight) {
+
+		if (buffered.isBypassed()) { // file ... already sent
+			return;
+		}
+
+		HttpServerResponse response = buffered.getResponse();
+		Buffer body = buffered.getBody();
+
+		int status = response.getStatusCode();
+		if (status < 200 || status >= 300) { // only successful responses are tagged, cached and shared
+			response.end(body);
+			return;
+		}
+
+		String eTag = null;
+		if (tag) {
+			eTag = EntityTags.of(body, definition.isWeakETag());
+			response.putHeader(HttpHeaders.ETAG, eTag);
+		}
+
+		if (pending != null) {
+			pending.store(response, body);
+		}
+
+		if (flight != null) {
+			flight.complete(response, body);
+		}
+
+		if (eTag != null && EntityTags.notModified(request, eTag)) {
+			EntityTags.sendNotModified(response, eTag);
+		} else {
+			response.end(body);
+		}
+	}
+
 	public static WriterFactory getWriters() {
 
 		return writers;
@@ -754,6 +1369,111 @@ public class RestRouter {
 		log.info("Registering '" + clazz + "' provider '" + provider.getClass().getName() + "'");
 	}
 
+	/**
+	 * @return response caches of routes with @Cached annotation (statistics and invalidation)
+	 */
+	public static ResponseCaches getResponseCaches() {
+
+		return responseCaches;
+	}
+
+	/**
+	 * @return concurrency limiters of routes with @MaxConcurrency annotation (in flight, queued and rejected requests)
+	 */
+	public static ConcurrencyLimiters getConcurrencyLimiters() {
+
+		return concurrencyLimiters;
+	}
+
+	/**
+	 * @return metrics of routes (request count, status and latency), collected when enabled
+	 */
+	public static MetricsRegistry getMetrics() {
+
+		return metrics;
+	}
+
+	/**
+	 * Enables collection of request count, status and latency metrics of routes,
+	 * must be set before REST APIs are registered
+	 *
+	 * @param enabled true to collect metrics, false to disable (default)
+	 */
+	public static void collectMetrics(boolean enabled) {
+
+		collectMetrics = enabled;
+	}
+
+	/**
+	 * Times lifecycle phases (worker queue wait, argument extraction, validation, invocation, writer resolution, writing and events)
+	 * of sampled requests, must be set before REST APIs are registered (enables metrics collection of routes)
+	 *
+	 * @param sampleRate share of timed requests: 0 to disable (default), 1 to time all requests, 0.01 to time every 100th request
+	 */
+	public static void timePhases(double sampleRate) {
+
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1!");
+		phaseSampling = sampleRate;
+	}
+
+	/**
+	 * Caches authorization decisions (@RolesAllowed) per user and role set of route
+	 *
+	 * @param cache authorization cache or null to check roles on every request (default)
+	 */
+	public static void cacheAuthorization(AuthorizationCache cache) {
+
+		authorizationCache = cache;
+	}
+
+	/**
+	 * @return authorization cache (hit ratio, saved time and invalidation) or null if decisions are not cached
+	 */
+	public static AuthorizationCache getAuthorizationCache() {
+
+		return authorizationCache;
+	}
+
+	/**
+	 * Adds Server-Timing header with phase durations to responses of sampled requests (for debugging),
+	 * must be set before REST APIs are registered
+	 *
+	 * @param enabled true to add header, false to disable (default)
+	 */
+	public static void serverTiming(boolean enabled) {
+
+		serverTiming = enabled;
+	}
+
+	/**
+	 * Exposes collected metrics on given path as text (one route per line) or JSON (if requested with Accept: application/json or ?format=json)
+	 *
+	 * @param router to add metrics route to
+	 * @param path   of metrics route, for instance: "/metrics"
+	 */
+	public static void exposeMetrics(Router router, String path) {
+
+		Assert.notNull(router, "Missing router!");
+		Assert.notNullOrEmptyTrimmed(path, "Missing metrics path!");
+
+		router.get(path).handler(context -> {
+
+			String accept = context.request().getHeader(HttpHeaders.ACCEPT);
+			boolean json = "json".equals(context.request().getParam("format")) ||
+			               (accept != null && accept.contains(MediaType.APPLICATION_JSON));
+
+			if (json) {
+				context.response()
+				       .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+				       .end(metrics.toJson().encode());
+			} else {
+				context.response()
+				       .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN)
+				       .end(metrics.toString());
+			}
+		});
+	}
+
 	public static ContextProviderFactory getContextProviders() {
 		return providers;
 	}
@@ -800,7 +1520,90 @@ public class RestRouter {
 	}
 
 	/**
-	 * Provide an validator to validate arguments
+	 * Provide an invoker provider to bind REST methods with,
+	 * must be set before REST APIs are registered
+	 *
+	 * @param provider to bind methods or null to use default (method handle) provider
+	 */
+	public static void invokeWith(InvokerProvider provider) {
+
+		invokerProvider = provider != null ? provider : new MethodHandleInvokerProvider();
+		log.info("Registered invoker provider: " + invokerProvider.getClass().getName());
+	}
+
+	/**
+	 * Sets time limit of REST execution for RESTs without @Timeout annotation, once passed request is answered with 503
+	 * Must be set before REST APIs are registered
+	 *
+	 * @param millis time limit in milliseconds, 0 for no limit (default)
+	 */
+	public static void timeout(long millis) {
+
+		Assert.isTrue(millis >= 0, "Timeout must be >= 0!");
+		timeout = millis;
+	}
+
+	/**
+	 * Provide adaptive concurrency limits for routes with @MaxConcurrency(adaptive = true),
+	 * must be set before REST APIs are registered
+	 *
+	 * @param provider of adaptive limits or null to use default (gradient) limit
+	 */
+	public static void limitWith(ConcurrencyLimitProvider provider) {
+
+		limitProvider = provider != null ? provider : RestRouter::getGradientLimit;
+	}
+
+	private static ConcurrencyLimit getGradientLimit(RouteDefinition definition) {
+
+		return new GradientLimit(definition.getMaxConcurrency().limit());
+	}
+
+	/**
+	 * Sets time limit for @NonBlocking REST execution on event loop, a warning is logged when exceeded
+	 *
+	 * @param millis time limit in milliseconds, 0 to disable
+	 */
+	public static void guardNonBlocking(long millis) {
+
+		Assert.isTrue(millis >= 0, "Non blocking time limit must be >= 0!");
+		nonBlockingGuard = millis;
+	}
+
+	/**
+	 * @return number of @NonBlocking REST executions exceeding non blocking time limit (warnings logged)
+	 */
+	public static long getNonBlockingWarnings() {
+
+		return nonBlockingWarnings.sum();
+	}
+
+	/**
+	 * Executes blocking RESTs on virtual threads instead of worker pool, if supported by runtime (JDK 21+)
+	 * Must be set before REST APIs are registered, RESTs annotated with @VirtualThread(false) or @Blocking are not affected
+	 *
+	 * @param enabled true to execute on virtual threads, false to execute on worker pool (default)
+	 */
+	public static void executeOnVirtualThreads(boolean enabled) {
+
+		virtualThreads = enabled;
+		if (virtualThreads && !VirtualThreadExecutor.isSupported()) {
+			log.warn("Virtual threads are not supported by runtime, worker pool will be used instead!");
+		}
+	}
+
+	/**
+	 * @return true if running in development environment (same as vert.x web: VERTXWEB_ENVIRONMENT or vertxweb.environment set to dev)
+	 */
+	private static boolean isDevelopment() {
+
+		String environment = System.getProperty("vertxweb.environment", System.getenv("VERTXWEB_ENVIRONMENT"));
+		return "dev".equalsIgnoreCase(environment) || "development".equalsIgnoreCase(environment);
+	}
+
+	/**
+	 * Provide an validator to validate arguments and results of constrained REST methods,
+	 * constraints of REST methods are looked up once per given validator
 	 *
 	 * @param provider to validate
 	 */
@@ -0,0 +1,42 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches produced GET responses (status, headers and body) on server side
+ * Cached response is served before arguments are extracted and REST is invoked
+ *
+ * Responses are cached per path, selected request parameters (or whole query if none selected) and accepted media type.
+ * Only successful (2xx) responses are cached, streamed (chunked) responses and files are not cached
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Cached {
+
+	/**
+	 * @return time to live of cached response
+	 */
+	long ttl() default 60;
+
+	/**
+	 * @return time to live unit
+	 */
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+	/**
+	 * @return max number of cached responses, least recently used are evicted first
+	 */
+	int maxEntries() default 1000;
+
+	/**
+	 * @return max size of all cached responses in bytes, least recently used are evicted first
+	 */
+	long maxBytes() default 16 * 1024 * 1024;
+
+	/**
+	 * @return names of request (path or query) parameters to be part of the cache key, if empty whole query is used
+	 */
+	String[] key() default {};
+}
@@ -0,0 +1,28 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Coalesces identical concurrent GET requests (single flight)
+ * First request invokes REST, identical requests arriving while it is in flight wait and receive the same response
+ *
+ * Requests are identical if they share path, selected request parameters (or whole query if none selected) and accepted media type.
+ * Only successful (2xx) responses are shared, in case of failure waiting requests invoke REST on their own.
+ * Streamed (chunked) responses and files are not shared.
+ * Requests of an authenticated user (or carrying an Authorization header) are not coalesced.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+
+	/**
+	 * @return names of request (path or query) parameters identifying request, if empty whole query is used
+	 */
+	String[] key() default {};
+
+	/**
+	 * @return max time in milliseconds a request waits for response of identical request in flight before REST is invoked on its own
+	 */
+	long timeout() default 10_000;
+}
@@ -0,0 +1,29 @@
+package com.zandero.rest.annotation;
+
+import com.zandero.rest.context.ContextProvider;
+
+import java.lang.annotation.*;
+
+/**
+ * Adds ETag header to GET / HEAD responses and answers matching If-None-Match requests with 304 Not Modified
+ *
+ * By default ETag is computed from response bytes (response is produced, but not sent if not modified).
+ * If a version provider is given ETag is computed from provided version key before REST is invoked,
+ * and REST is not invoked at all if not modified.
+ * Given on class applies to all methods
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ETag {
+
+	/**
+	 * @return true to produce weak ETag (W/"..."), false to produce strong ETag (default)
+	 */
+	boolean weak() default false;
+
+	/**
+	 * @return provider of resource version key (null if no version key is available), or none if ETag is computed from response bytes
+	 */
+	Class<? extends ContextProvider> version() default ContextProvider.class;
+}
@@ -0,0 +1,41 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Bounds number of concurrently executed requests of a REST
+ * Requests exceeding limit wait in queue (if any), once queue is full or queue timeout passes
+ * requests are rejected with 503 Service Unavailable and Retry-After header
+ *
+ * Adaptive limit is continuously adjusted from observed request latency, starting with given limit
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface MaxConcurrency {
+
+	/**
+	 * @return max number of requests executed concurrently (initial limit if adaptive)
+	 */
+	int limit();
+
+	/**
+	 * @return true to adjust limit from observed request latency, false to keep limit fixed
+	 */
+	boolean adaptive() default false;
+
+	/**
+	 * @return max number of requests waiting for execution, 0 to reject immediately once limit is reached
+	 */
+	int queue() default 0;
+
+	/**
+	 * @return max time in milliseconds a request waits in queue before rejected, 0 to wait until executed
+	 */
+	long queueTimeout() default 1000;
+
+	/**
+	 * @return Retry-After header value in seconds sent with rejected requests
+	 */
+	int retryAfter() default 1;
+}
@@ -0,0 +1,16 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Executes REST directly on the event loop instead of on worker pool (executeBlocking)
+ * Only to be used on short non blocking methods (in memory lookups, cache access ...)
+ * Given on class applies to all methods, method can override with false
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface NonBlocking {
+
+	boolean value() default true;
+}
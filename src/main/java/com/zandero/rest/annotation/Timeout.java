@@ -0,0 +1,25 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Time limit of REST execution, once passed request is answered with 503 Service Unavailable
+ * Late results are dropped, worker thread executing blocking REST is interrupted (if not disabled)
+ *
+ * REST can check remaining time through injected {@link com.zandero.rest.context.Deadline} (@Context Deadline deadline)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Timeout {
+
+	/**
+	 * @return time limit in milliseconds, 0 for no limit (global time limit is not applied)
+	 */
+	long value();
+
+	/**
+	 * @return true to interrupt thread executing blocking REST once time limit passes, false to only flag deadline as expired
+	 */
+	boolean interrupt() default true;
+}
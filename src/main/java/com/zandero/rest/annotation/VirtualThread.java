@@ -0,0 +1,16 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Executes blocking REST on a virtual thread instead of on worker pool (executeBlocking)
+ * Applies only if runtime supports virtual threads (JDK 21+), otherwise worker pool is used
+ * Given on class applies to all methods, method can override with false
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface VirtualThread {
+
+	boolean value() default true;
+}
@@ -0,0 +1,299 @@
+package com.zandero.rest.cache;
+
+import com.zandero.rest.metrics.LatencyHistogram;
+import com.zandero.utils.Assert;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.User;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded (number of entries) least recently used cache of authorization decisions,
+ * keyed by principal identity and set of allowed roles of route
+ *
+ * Both granted and denied decisions are cached until expired or invalidated, failed role checks are not cached.
+ */
+public class AuthorizationCache {
+
+	/**
+	 * separates principal identity from role set in key
+	 */
+	private static final char SEPARATOR = '\n';
+
+	private final long ttl;
+
+	private final int maxEntries;
+
+	private final Function<User, String> identity;
+
+	/**
+	 * access ordered ... least recently used first
+	 */
+	private final LinkedHashMap<String, Decision> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * latency of role checks on cache misses
+	 */
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	/**
+	 * Identifies users by subject ("sub" claim) or "username" of their principal,
+	 * decisions of users with neither are not cached
+	 *
+	 * @param ttlMillis  time to live of cached decision in milliseconds
+	 * @param maxEntries max number of cached decisions
+	 */
+	public AuthorizationCache(long ttlMillis, int maxEntries) {
+
+		this(ttlMillis, maxEntries, AuthorizationCache::getPrincipal);
+	}
+
+	/**
+	 * @param ttlMillis  time to live of cached decision in milliseconds
+	 * @param maxEntries max number of cached decisions
+	 * @param identity   provides unique identity of user (id, name ...), decisions of users without identity (null) are not cached
+	 */
+	public AuthorizationCache(long ttlMillis, int maxEntries, Function<User, String> identity) {
+
+		Assert.isTrue(ttlMillis > 0, "Authorization cache time to live must be > 0!");
+		Assert.isTrue(maxEntries > 0, "Authorization cache max entries must be > 0!");
+		Assert.notNull(identity, "Missing user identity function!");
+
+		this.ttl = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+		this.maxEntries = maxEntries;
+		this.identity = identity;
+	}
+
+	/**
+	 * @param user current user
+	 * @return stable identity of user (not changing with every token issued) or null if not available
+	 */
+	static String getPrincipal(User user) {
+
+		JsonObject principal = user.principal();
+		if (principal == null) {
+			return null;
+		}
+
+		Object id = principal.getValue("sub");
+		if (id == null) {
+			id = principal.getValue("username");
+		}
+
+		return id != null ? id.toString() : null;
+	}
+
+	/**
+	 * @param roles allowed roles of route
+	 * @return role set key (order of roles is not relevant)
+	 */
+	public static String getRoles(String[] roles) {
+
+		Assert.notNull(roles, "Missing roles!");
+
+		String[] sorted = Arrays.copyOf(roles, roles.length);
+		Arrays.sort(sorted);
+		return String.join(",", sorted);
+	}
+
+	/**
+	 * @param user  current user
+	 * @param roles role set key of route, see {@link #getRoles(String[])}
+	 * @return key of decision or null if user has no identity (decision can't be cached)
+	 */
+	public String getKey(User user, String roles) {
+
+		String id = identity.apply(user);
+		return id != null ? id + SEPARATOR + roles : null;
+	}
+
+	/**
+	 * @param key of decision
+	 * @return true if granted, false if denied or null if not cached or expired
+	 */
+	public Boolean get(String key) {
+
+		Decision decision;
+		synchronized (entries) {
+
+			decision = entries.get(key);
+			if (decision != null && System.nanoTime() - decision.expires >= 0) {
+				entries.remove(key);
+				decision = null;
+			}
+		}
+
+		if (decision == null) {
+			misses.increment();
+			return null;
+		}
+
+		hits.increment();
+		return decision.granted;
+	}
+
+	/**
+	 * Stores decision, least recently used decisions are evicted if cache is full
+	 *
+	 * @param key     of decision
+	 * @param granted true if granted, false if denied
+	 * @param nanos   time the role check took
+	 */
+	public void put(String key, boolean granted, long nanos) {
+
+		latency.record(nanos);
+
+		Decision decision = new Decision(granted, System.nanoTime() + ttl);
+		synchronized (entries) {
+
+			entries.put(key, decision);
+
+			Iterator<String> iterator = entries.keySet().iterator();
+			while (entries.size() > maxEntries && iterator.hasNext()) {
+
+				iterator.next();
+				iterator.remove();
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Removes all cached decisions
+	 */
+	public void invalidate() {
+
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Removes cached decisions of given user (for instance once roles of user have changed)
+	 *
+	 * @param user to remove decisions of
+	 */
+	public void invalidate(User user) {
+
+		Assert.notNull(user, "Missing user to invalidate!");
+
+		String id = identity.apply(user);
+		if (id != null) {
+			invalidate(id);
+		}
+	}
+
+	/**
+	 * Removes cached decisions of user with given identity
+	 *
+	 * @param id identity of user as provided by identity function
+	 */
+	public void invalidate(String id) {
+
+		Assert.notNull(id, "Missing identity to invalidate!");
+
+		String prefix = id + SEPARATOR;
+		synchronized (entries) {
+			entries.keySet().removeIf(key -> key.startsWith(prefix));
+		}
+	}
+
+	public long getHits() {
+
+		return hits.sum();
+	}
+
+	public long getMisses() {
+
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+
+		return evictions.sum();
+	}
+
+	/**
+	 * @return share of decisions served from cache (0 - 1)
+	 */
+	public double getHitRatio() {
+
+		long hit = getHits();
+		long total = hit + getMisses();
+		return total == 0 ? 0 : (double) hit / total;
+	}
+
+	/**
+	 * @return latency of role checks performed on cache misses
+	 */
+	public LatencyHistogram getLatency() {
+
+		return latency;
+	}
+
+	/**
+	 * @return estimated authorization time saved by cache in nanoseconds (hits times mean role check latency)
+	 */
+	public long getSaved() {
+
+		return (long) (getHits() * latency.getMean());
+	}
+
+	/**
+	 * @return number of cached decisions
+	 */
+	public int size() {
+
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * @return cache statistics as JSON, latencies in milliseconds
+	 */
+	public JsonObject toJson() {
+
+		return new JsonObject().put("hits", getHits())
+		                       .put("misses", getMisses())
+		                       .put("hitRatio", getHitRatio())
+		                       .put("evictions", getEvictions())
+		                       .put("size", size())
+		                       .put("checkMean", latency.getMean() / 1_000_000d)
+		                       .put("checkMax", latency.getMax() / 1_000_000d)
+		                       .put("saved", getSaved() / 1_000_000d);
+	}
+
+	/**
+	 * @return cache statistics as single line of text, latencies in milliseconds
+	 */
+	@Override
+	public String toString() {
+
+		return String.format(Locale.ROOT, "authorization hits=%d misses=%d hitRatio=%.3f evictions=%d size=%d checkMean=%.3f checkMax=%.3f saved=%.3f",
+		                     getHits(), getMisses(), getHitRatio(), getEvictions(), size(),
+		                     latency.getMean() / 1_000_000d, latency.getMax() / 1_000_000d, getSaved() / 1_000_000d);
+	}
+
+	private static final class Decision {
+
+		private final boolean granted;
+
+		private final long expires;
+
+		private Decision(boolean granted, long expires) {
+
+			this.granted = granted;
+			this.expires = expires;
+		}
+	}
+}
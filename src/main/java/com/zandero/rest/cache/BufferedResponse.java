@@ -0,0 +1,387 @@
+package com.zandero.rest.cache;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Response collecting written body into a buffer instead of sending it out
+ * Status and headers are set on wrapped response directly (those are not sent until body is written)
+ *
+ * Once ended the end handler decides what is sent to the client.
+ * Files are sent out directly as they can't be buffered.
+ */
+public class BufferedResponse implements HttpServerResponse {
+
+	private final HttpServerResponse response;
+
+	private final Handler<BufferedResponse> endHandler;
+
+	private final Buffer body = Buffer.buffer();
+
+	private boolean chunked;
+
+	private boolean ended;
+
+	private boolean bypassed;
+
+	/**
+	 * @param response   to be wrapped
+	 * @param endHandler invoked once writer ended response
+	 */
+	public BufferedResponse(HttpServerResponse response, Handler<BufferedResponse> endHandler) {
+
+		Assert.notNull(response, "Missing response!");
+		Assert.notNull(endHandler, "Missing end handler!");
+
+		this.response = response;
+		this.endHandler = endHandler;
+	}
+
+	/**
+	 * @return wrapped response
+	 */
+	public HttpServerResponse getResponse() {
+
+		return response;
+	}
+
+	/**
+	 * @return collected body
+	 */
+	public Buffer getBody() {
+
+		return body;
+	}
+
+	/**
+	 * @return true if response was not buffered but sent out directly (file)
+	 */
+	public boolean isBypassed() {
+
+		return bypassed;
+	}
+
+	@Override
+	public HttpServerResponse exceptionHandler(Handler<Throwable> handler) {
+
+		response.exceptionHandler(handler);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse write(Buffer data) {
+
+		checkEnded();
+		body.appendBuffer(data);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse setWriteQueueMaxSize(int maxSize) {
+
+		return this;
+	}
+
+	@Override
+	public boolean writeQueueFull() {
+
+		return false;
+	}
+
+	@Override
+	public HttpServerResponse drainHandler(Handler<Void> handler) {
+
+		return this;
+	}
+
+	@Override
+	public int getStatusCode() {
+
+		return response.getStatusCode();
+	}
+
+	@Override
+	public HttpServerResponse setStatusCode(int statusCode) {
+
+		response.setStatusCode(statusCode);
+		return this;
+	}
+
+	@Override
+	public String getStatusMessage() {
+
+		return response.getStatusMessage();
+	}
+
+	@Override
+	public HttpServerResponse setStatusMessage(String statusMessage) {
+
+		response.setStatusMessage(statusMessage);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse setChunked(boolean value) {
+
+		chunked = value; // whole body is sent at once
+		return this;
+	}
+
+	@Override
+	public boolean isChunked() {
+
+		return chunked;
+	}
+
+	@Override
+	public MultiMap headers() {
+
+		return response.headers();
+	}
+
+	@Override
+	public HttpServerResponse putHeader(String name, String value) {
+
+		response.putHeader(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse putHeader(CharSequence name, CharSequence value) {
+
+		response.putHeader(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse putHeader(String name, Iterable<String> values) {
+
+		response.putHeader(name, values);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse putHeader(CharSequence name, Iterable<CharSequence> values) {
+
+		response.putHeader(name, values);
+		return this;
+	}
+
+	@Override
+	public MultiMap trailers() {
+
+		return response.trailers();
+	}
+
+	@Override
+	public HttpServerResponse putTrailer(String name, String value) {
+
+		response.putTrailer(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse putTrailer(CharSequence name, CharSequence value) {
+
+		response.putTrailer(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse putTrailer(String name, Iterable<String> values) {
+
+		response.putTrailer(name, values);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse putTrailer(CharSequence name, Iterable<CharSequence> value) {
+
+		response.putTrailer(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse closeHandler(Handler<Void> handler) {
+
+		response.closeHandler(handler);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse endHandler(Handler<Void> handler) {
+
+		response.endHandler(handler);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse write(String chunk, String enc) {
+
+		return write(Buffer.buffer(chunk, enc));
+	}
+
+	@Override
+	public HttpServerResponse write(String chunk) {
+
+		return write(Buffer.buffer(chunk));
+	}
+
+	@Override
+	public HttpServerResponse writeContinue() {
+
+		response.writeContinue();
+		return this;
+	}
+
+	@Override
+	public void end(String chunk) {
+
+		end(Buffer.buffer(chunk));
+	}
+
+	@Override
+	public void end(String chunk, String enc) {
+
+		end(Buffer.buffer(chunk, enc));
+	}
+
+	@Override
+	public void end(Buffer chunk) {
+
+		write(chunk);
+		end();
+	}
+
+	@Override
+	public void end() {
+
+		checkEnded();
+		ended = true;
+		endHandler.handle(this);
+	}
+
+	@Override
+	public HttpServerResponse sendFile(String filename, long offset, long length) {
+
+		return sendFile(filename, offset, length, null);
+	}
+
+	@Override
+	public HttpServerResponse sendFile(String filename, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+
+		checkEnded();
+		ended = true;
+		bypassed = true;
+
+		response.sendFile(filename, offset, length, resultHandler);
+		return this;
+	}
+
+	@Override
+	public void close() {
+
+		response.close();
+	}
+
+	@Override
+	public boolean ended() {
+
+		return ended;
+	}
+
+	@Override
+	public boolean closed() {
+
+		return response.closed();
+	}
+
+	@Override
+	public boolean headWritten() {
+
+		return response.headWritten();
+	}
+
+	@Override
+	public HttpServerResponse headersEndHandler(Handler<Void> handler) {
+
+		response.headersEndHandler(handler);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse bodyEndHandler(Handler<Void> handler) {
+
+		response.bodyEndHandler(handler);
+		return this;
+	}
+
+	@Override
+	public long bytesWritten() {
+
+		return body.length();
+	}
+
+	@Override
+	public int streamId() {
+
+		return response.streamId();
+	}
+
+	@Override
+	public HttpServerResponse push(HttpMethod method, String host, String path, Handler<AsyncResult<HttpServerResponse>> handler) {
+
+		response.push(method, host, path, handler);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse push(HttpMethod method, String path, MultiMap headers, Handler<AsyncResult<HttpServerResponse>> handler) {
+
+		response.push(method, path, headers, handler);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse push(HttpMethod method, String path, Handler<AsyncResult<HttpServerResponse>> handler) {
+
+		response.push(method, path, handler);
+		return this;
+	}
+
+	@Override
+	public HttpServerResponse push(HttpMethod method,
+	                               String host,
+	                               String path,
+	                               MultiMap headers,
+	                               Handler<AsyncResult<HttpServerResponse>> handler) {
+
+		response.push(method, host, path, headers, handler);
+		return this;
+	}
+
+	@Override
+	public void reset(long code) {
+
+		response.reset(code);
+	}
+
+	@Override
+	public HttpServerResponse writeCustomFrame(int type, int flags, Buffer payload) {
+
+		response.writeCustomFrame(type, flags, payload);
+		return this;
+	}
+
+	private void checkEnded() {
+
+		if (ended) {
+			throw new IllegalStateException("Response has already been written");
+		}
+	}
+}
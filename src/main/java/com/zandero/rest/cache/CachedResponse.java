@@ -0,0 +1,96 @@
+package com.zandero.rest.cache;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.util.Map;
+
+/**
+ * Produced response as stored in {@link ResponseCache}
+ */
+public final class CachedResponse {
+
+	private final int status;
+
+	private final MultiMap headers;
+
+	private final Buffer body;
+
+	private final long expires;
+
+	private final long size;
+
+	/**
+	 * @param status  response status code
+	 * @param headers response headers produced by REST / writer
+	 * @param body    response body
+	 * @param expires time (nanoTime) when response expires
+	 */
+	CachedResponse(int status, MultiMap headers, Buffer body, long expires) {
+
+		this.status = status;
+		this.headers = headers;
+		this.body = body;
+		this.expires = expires;
+
+		long headerSize = 0;
+		for (Map.Entry<String, String> header : headers) {
+			headerSize = headerSize + header.getKey().length() + header.getValue().length();
+		}
+
+		size = body.length() + headerSize;
+	}
+
+	public int getStatus() {
+
+		return status;
+	}
+
+	public MultiMap getHeaders() {
+
+		return headers;
+	}
+
+	public Buffer getBody() {
+
+		return body;
+	}
+
+	/**
+	 * @return approximate size of response in bytes
+	 */
+	public long size() {
+
+		return size;
+	}
+
+	boolean isExpired(long now) {
+
+		return now - expires >= 0;
+	}
+
+	/**
+	 * Sends cached response, or 304 Not Modified if response is tagged and client has a matching copy
+	 *
+	 * @param request  current request
+	 * @param response to write to
+	 */
+	public void write(HttpServerRequest request, HttpServerResponse response) {
+
+		response.setStatusCode(status);
+		for (Map.Entry<String, String> header : headers) {
+			response.headers().add(header.getKey(), header.getValue()); // keep multi valued headers
+		}
+
+		String tag = headers.get(HttpHeaders.ETAG);
+		if (tag != null && EntityTags.notModified(request, tag)) {
+			EntityTags.sendNotModified(response, tag);
+			return;
+		}
+
+		response.end(body);
+	}
+}
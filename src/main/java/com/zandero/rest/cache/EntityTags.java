@@ -0,0 +1,115 @@
+package com.zandero.rest.cache;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * ETag computation and conditional request (If-None-Match) handling
+ */
+public final class EntityTags {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("MD5");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private EntityTags() {
+		// hide constructor
+	}
+
+	/**
+	 * @param content to compute tag from
+	 * @param weak    true to produce weak tag
+	 * @return quoted ETag (W/"..." if weak)
+	 */
+	public static String of(Buffer content, boolean weak) {
+
+		MessageDigest digest = DIGEST.get();
+		for (ByteBuffer part : content.getByteBuf().nioBuffers()) { // digest content in place ... no copy of body
+			digest.update(part);
+		}
+
+		byte[] hash = digest.digest();
+
+		StringBuilder tag = new StringBuilder(weak ? 36 : 34);
+		if (weak) {
+			tag.append("W/");
+		}
+
+		tag.append('"');
+		for (byte item : hash) {
+			tag.append(HEX[(item >> 4) & 0xF]).append(HEX[item & 0xF]);
+		}
+
+		return tag.append('"').toString();
+	}
+
+	/**
+	 * @param version resource version key
+	 * @param weak    true to produce weak tag
+	 * @return quoted ETag (W/"..." if weak)
+	 */
+	public static String of(Object version, boolean weak) {
+
+		return of(Buffer.buffer(version.toString()), weak);
+	}
+
+	/**
+	 * Weak comparison of If-None-Match request header with given tag
+	 *
+	 * @param request current request
+	 * @param tag     ETag of current resource
+	 * @return true if resource was not modified (client has a matching copy)
+	 */
+	public static boolean notModified(HttpServerRequest request, String tag) {
+
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (ifNoneMatch == null || tag == null) {
+			return false;
+		}
+
+		String opaque = opaque(tag);
+		for (String item : ifNoneMatch.split(",")) {
+
+			item = item.trim();
+			if ("*".equals(item) || opaque.equals(opaque(item))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Ends response with 304 Not Modified without body
+	 *
+	 * @param response to end
+	 * @param tag      ETag of current resource
+	 */
+	public static void sendNotModified(HttpServerResponse response, String tag) {
+
+		response.setStatusCode(304);
+		response.putHeader(HttpHeaders.ETAG, tag);
+
+		response.headers().remove(HttpHeaders.CONTENT_TYPE);
+		response.headers().remove(HttpHeaders.CONTENT_LENGTH);
+		response.end();
+	}
+
+	private static String opaque(String tag) {
+
+		return tag.startsWith("W/") ? tag.substring(2) : tag;
+	}
+}
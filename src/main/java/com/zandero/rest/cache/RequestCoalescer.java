@@ -0,0 +1,259 @@
+package com.zandero.rest.cache;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single flight of identical concurrent requests of a single route
+ * First (leading) request is invoked, identical requests wait until leading response is produced and get a copy of it
+ *
+ * Waiting requests can be spread across event loops, each is written out on its own context
+ */
+public class RequestCoalescer {
+
+	/**
+	 * Routing context key of leading request in flight
+	 */
+	private static final String CONTEXT_KEY = "RestRouter-RequestCoalescer";
+
+	private final long timeout;
+
+	private final String[] keyParams;
+
+	/**
+	 * key / leading request in flight
+	 */
+	private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * @param timeoutMillis max time a request waits for response of identical request in flight, 0 to wait until landed
+	 * @param keyParams     request parameters identifying request, whole query is used if none given
+	 */
+	public RequestCoalescer(long timeoutMillis, String... keyParams) {
+
+		Assert.isTrue(timeoutMillis >= 0, "Coalesce timeout must be >= 0!");
+
+		this.timeout = timeoutMillis;
+		this.keyParams = keyParams == null ? new String[0] : keyParams;
+	}
+
+	/**
+	 * Joins identical request in flight or starts a new flight
+	 *
+	 * @param context current request
+	 * @return leading request to be invoked, or null if request is waiting for response of identical request in flight
+	 */
+	public InFlight join(RoutingContext context) {
+
+		String key = ResponseCache.getKey(context, keyParams);
+
+		Waiter waiter = null;
+		while (true) {
+
+			InFlight existing = inFlight.get(key);
+			if (existing == null) { // only leading request is tracked with response headers
+
+				InFlight leader = new InFlight(key, context.response().headers().names());
+				existing = inFlight.putIfAbsent(key, leader);
+
+				if (existing == null) {
+					context.put(CONTEXT_KEY, leader);
+					return leader;
+				}
+			}
+
+			if (waiter == null) {
+				waiter = new Waiter(context, Vertx.currentContext());
+			}
+
+			if (existing.add(waiter)) {
+				waiter.await(existing, timeout);
+				return null;
+			}
+
+			// flight just landed ... try again
+		}
+	}
+
+	/**
+	 * @param context current request
+	 * @return leading request in flight or null if request is not leading
+	 */
+	public static InFlight getInFlight(RoutingContext context) {
+
+		return context.get(CONTEXT_KEY);
+	}
+
+	/**
+	 * @return number of requests in flight
+	 */
+	public int size() {
+
+		return inFlight.size();
+	}
+
+	/**
+	 * Request waiting for produced response, invoked on its own (null response) if leading request failed or waiting timed out
+	 */
+	private static final class Waiter implements Handler<CachedResponse> {
+
+		private final RoutingContext context;
+
+		private final Context vertxContext;
+
+		private volatile long timer = -1;
+
+		private Waiter(RoutingContext context, Context vertxContext) {
+
+			this.context = context;
+			this.vertxContext = vertxContext;
+		}
+
+		private void await(InFlight flight, long timeout) {
+
+			if (timeout > 0) {
+				timer = context.vertx().setTimer(timeout, id -> {
+					if (flight.remove(this)) { // leading request takes too long ... invoke on its own
+						next();
+					}
+				});
+			}
+		}
+
+		@Override
+		public void handle(CachedResponse produced) {
+
+			if (timer >= 0) {
+				context.vertx().cancelTimer(timer);
+			}
+
+			run(() -> {
+				HttpServerResponse waiting = context.response();
+				if (waiting.closed() || waiting.ended()) {
+					return;
+				}
+
+				if (produced == null) {
+					context.next();
+				} else {
+					produced.write(context.request(), waiting);
+				}
+			});
+		}
+
+		private void next() {
+
+			if (!context.response().closed()) {
+				context.next();
+			}
+		}
+
+		private void run(Runnable runnable) {
+
+			if (vertxContext == null) {
+				runnable.run();
+			} else {
+				vertxContext.runOnContext(v -> runnable.run());
+			}
+		}
+	}
+
+	/**
+	 * Leading request, waiting requests are released once its response is produced
+	 */
+	public final class InFlight {
+
+		private final String key;
+
+		/**
+		 * headers set before REST was invoked (CORS, providers ...) are request specific and not shared
+		 */
+		private final Set<String> requestHeaders;
+
+		private List<Handler<CachedResponse>> waiters = new ArrayList<>();
+
+		private InFlight(String key, Set<String> requestHeaders) {
+
+			this.key = key;
+			this.requestHeaders = ResponseCache.requestHeaders(requestHeaders);
+		}
+
+		private synchronized boolean add(Handler<CachedResponse> waiter) {
+
+			if (waiters == null) {
+				return false;
+			}
+
+			waiters.add(waiter);
+			return true;
+		}
+
+		private synchronized boolean remove(Handler<CachedResponse> waiter) {
+
+			return waiters != null && waiters.remove(waiter);
+		}
+
+		private synchronized List<Handler<CachedResponse>> land() {
+
+			inFlight.remove(key, this); // identical requests arriving from now on start a new flight
+
+			List<Handler<CachedResponse>> landed = waiters;
+			waiters = null;
+			return landed;
+		}
+
+		/**
+		 * Sends copy of produced response to all waiting requests
+		 *
+		 * @param response produced response (status and headers)
+		 * @param body     produced body
+		 */
+		public void complete(HttpServerResponse response, Buffer body) {
+
+			if (ResponseCache.setsCookie(response)) { // user specific ... not shared
+				release();
+				return;
+			}
+
+			List<Handler<CachedResponse>> landed = land();
+			if (landed == null || landed.isEmpty()) {
+				return;
+			}
+
+			CachedResponse produced = new CachedResponse(response.getStatusCode(),
+			                                             ResponseCache.responseHeaders(response, requestHeaders),
+			                                             body,
+			                                             System.nanoTime());
+
+			for (Handler<CachedResponse> waiter : landed) {
+				waiter.handle(produced);
+			}
+		}
+
+		/**
+		 * Releases waiting requests to be invoked on their own (leading request failed or response could not be shared)
+		 */
+		public void release() {
+
+			List<Handler<CachedResponse>> landed = land();
+			if (landed == null) {
+				return;
+			}
+
+			for (Handler<CachedResponse> waiter : landed) {
+				waiter.handle(null);
+			}
+		}
+	}
+}
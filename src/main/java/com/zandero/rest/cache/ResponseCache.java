@@ -0,0 +1,395 @@
+package com.zandero.rest.cache;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded (number of entries and size) least recently used cache of produced responses of a single route
+ * Lookups are lock free, last access is tracked per entry and least recently used entries are evicted once cache is full
+ * (approximate LRU, concurrent lookups might touch an entry while it is evicted)
+ */
+public class ResponseCache {
+
+	/**
+	 * Routing context key of pending response to be stored once produced
+	 */
+	private static final String CONTEXT_KEY = "RestRouter-ResponseCache";
+
+	private final String name;
+
+	private final long ttl;
+
+	private final int maxEntries;
+
+	private final long maxBytes;
+
+	private final String[] keyParams;
+
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final AtomicLong bytes = new AtomicLong();
+
+	/**
+	 * single evicting thread at a time, lookups are not blocked
+	 */
+	private final Object evicting = new Object();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param name       of cache (route)
+	 * @param ttlMillis  time to live of cached response in milliseconds
+	 * @param maxEntries max number of cached responses
+	 * @param maxBytes   max size of all cached responses
+	 * @param keyParams  request parameters to be part of the key, whole query is used if none given
+	 */
+	public ResponseCache(String name, long ttlMillis, int maxEntries, long maxBytes, String... keyParams) {
+
+		Assert.isTrue(ttlMillis > 0, "Cache time to live must be > 0!");
+		Assert.isTrue(maxEntries > 0, "Cache max entries must be > 0!");
+		Assert.isTrue(maxBytes > 0, "Cache max bytes must be > 0!");
+
+		this.name = name;
+		this.ttl = ttlMillis * 1_000_000L;
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		this.keyParams = keyParams == null ? new String[0] : keyParams;
+	}
+
+	/**
+	 * @return name of cache (route)
+	 */
+	public String getName() {
+
+		return name;
+	}
+
+	/**
+	 * @param context current request
+	 * @return key: path, selected parameters (or query) and accepted media type
+	 */
+	public String getKey(RoutingContext context) {
+
+		return getKey(context, keyParams);
+	}
+
+	/**
+	 * @param context   current request
+	 * @param keyParams request parameters to be part of the key, whole query is used if none given
+	 * @return key: path, selected parameters (or query) and accepted media type
+	 */
+	static String getKey(RoutingContext context, String[] keyParams) {
+
+		HttpServerRequest request = context.request();
+		StringBuilder key = new StringBuilder(request.path()).append('?');
+
+		if (keyParams.length == 0) {
+			if (request.query() != null) {
+				key.append(request.query());
+			}
+		} else {
+			for (String param : keyParams) {
+				key.append(param).append('=').append(request.getParam(param)).append('&');
+			}
+		}
+
+		return key.append('|').append(context.getAcceptableContentType()).toString();
+	}
+
+	/**
+	 * Responses of authenticated requests might be user specific and are not cached (nor shared)
+	 *
+	 * @param context current request
+	 * @return true if request carries a user or Authorization header
+	 */
+	public static boolean isPersonal(RoutingContext context) {
+
+		return context.user() != null || context.request().getHeader(HttpHeaders.AUTHORIZATION) != null;
+	}
+
+	/**
+	 * @param response produced response
+	 * @return true if response sets a cookie and must not be cached (nor shared)
+	 */
+	static boolean setsCookie(HttpServerResponse response) {
+
+		return response.headers().contains(HttpHeaders.SET_COOKIE);
+	}
+
+	/**
+	 * @param key of response
+	 * @return cached response or null if not cached or expired
+	 */
+	public CachedResponse get(String key) {
+
+		long now = System.nanoTime();
+
+		Entry entry = entries.get(key);
+		if (entry != null && entry.response.isExpired(now)) {
+			remove(key, entry);
+			entry = null;
+		}
+
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+
+		entry.accessed = now;
+		hits.increment();
+		return entry.response;
+	}
+
+	/**
+	 * Stores response, least recently used responses are evicted if cache is full
+	 *
+	 * @param key     of response
+	 * @param status  response status code
+	 * @param headers response headers
+	 * @param body    response body
+	 */
+	public void put(String key, int status, MultiMap headers, Buffer body) {
+
+		CachedResponse response = new CachedResponse(status, headers, body, System.nanoTime() + ttl);
+		if (response.size() > maxBytes) { // would evict everything ... don't cache
+			return;
+		}
+
+		Entry entry = new Entry(response);
+		bytes.addAndGet(response.size());
+
+		Entry replaced = entries.put(key, entry);
+		if (replaced != null) {
+			bytes.addAndGet(-replaced.response.size());
+		}
+
+		if (isFull()) {
+			evict();
+		}
+	}
+
+	private boolean isFull() {
+
+		return entries.size() > maxEntries || bytes.get() > maxBytes;
+	}
+
+	/**
+	 * Evicts least recently used entries until cache is within bounds
+	 */
+	private void evict() {
+
+		synchronized (evicting) {
+
+			while (isFull()) {
+
+				Map.Entry<String, Entry> oldest = null;
+				for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+					if (oldest == null || candidate.getValue().accessed - oldest.getValue().accessed < 0) {
+						oldest = candidate;
+					}
+				}
+
+				if (oldest == null) {
+					return;
+				}
+
+				if (remove(oldest.getKey(), oldest.getValue())) {
+					evictions.increment();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all cached responses
+	 */
+	public void invalidate() {
+
+		entries.forEach(this::remove);
+	}
+
+	/**
+	 * Removes cached responses of given request path and sub paths
+	 *
+	 * @param path request path
+	 */
+	public void invalidate(String path) {
+
+		Assert.notNull(path, "Missing path to invalidate!");
+
+		entries.forEach((key, entry) -> {
+			if (isPathOf(key, path)) {
+				remove(key, entry);
+			}
+		});
+	}
+
+	static boolean isPathOf(String key, String path) {
+
+		if (key.length() <= path.length() || !key.startsWith(path)) {
+			return false;
+		}
+
+		char next = key.charAt(path.length());
+		return next == '?' || next == '/' || path.endsWith("/");
+	}
+
+	/**
+	 * @return true if removed, false if entry was already removed or replaced
+	 */
+	private boolean remove(String key, Entry entry) {
+
+		if (entries.remove(key, entry)) {
+			bytes.addAndGet(-entry.response.size());
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Marks request as not cached, response will be stored once produced
+	 *
+	 * @param context current request
+	 * @param key     of response
+	 */
+	public void pending(RoutingContext context, String key) {
+
+		context.put(CONTEXT_KEY, new Pending(this, key, context.response().headers().names()));
+	}
+
+	/**
+	 * @param context current request
+	 * @return pending response to be stored or null if response is not cached
+	 */
+	public static Pending getPending(RoutingContext context) {
+
+		return context.get(CONTEXT_KEY);
+	}
+
+	public long getHits() {
+
+		return hits.sum();
+	}
+
+	public long getMisses() {
+
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+
+		return evictions.sum();
+	}
+
+	/**
+	 * @return number of cached responses
+	 */
+	public int size() {
+
+		return entries.size();
+	}
+
+	/**
+	 * @return approximate size of all cached responses in bytes
+	 */
+	public long getBytes() {
+
+		return bytes.get();
+	}
+
+	/**
+	 * @param names of headers set before REST was invoked
+	 * @return case insensitive set of header names
+	 */
+	static Set<String> requestHeaders(Set<String> names) {
+
+		Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		headers.addAll(names);
+		return headers;
+	}
+
+	/**
+	 * @param response       produced response
+	 * @param requestHeaders headers set before REST was invoked (CORS, providers ...) are request specific and not stored
+	 * @return headers produced by REST / writer
+	 */
+	static MultiMap responseHeaders(HttpServerResponse response, Set<String> requestHeaders) {
+
+		MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+		for (Map.Entry<String, String> header : response.headers()) {
+			if (!requestHeaders.contains(header.getKey())) {
+				headers.add(header.getKey(), header.getValue());
+			}
+		}
+
+		return headers;
+	}
+
+	/**
+	 * Cached response with time of last access (nanoTime)
+	 */
+	private static final class Entry {
+
+		private final CachedResponse response;
+
+		private volatile long accessed;
+
+		private Entry(CachedResponse response) {
+
+			this.response = response;
+			this.accessed = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Response to be stored once produced
+	 */
+	public static final class Pending {
+
+		private final ResponseCache cache;
+
+		private final String key;
+
+		/**
+		 * headers set before REST was invoked (CORS, providers ...) are request specific and not stored
+		 */
+		private final Set<String> requestHeaders;
+
+		private Pending(ResponseCache cache, String key, Set<String> requestHeaders) {
+
+			this.cache = cache;
+			this.key = key;
+			this.requestHeaders = requestHeaders(requestHeaders);
+		}
+
+		/**
+		 * @param response produced response (status and headers)
+		 * @param body     produced body
+		 */
+		public void store(HttpServerResponse response, Buffer body) {
+
+			if (setsCookie(response)) {
+				return;
+			}
+
+			cache.put(key, response.getStatusCode(), responseHeaders(response, requestHeaders), body);
+		}
+	}
+}
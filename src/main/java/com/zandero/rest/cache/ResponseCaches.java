@@ -0,0 +1,86 @@
+package com.zandero.rest.cache;
+
+import com.zandero.rest.annotation.Cached;
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Response caches of all registered routes, allows invalidation of cached responses and provides cache statistics
+ */
+public class ResponseCaches {
+
+	/**
+	 * route (method and path) / cache
+	 */
+	private final Map<String, ResponseCache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates cache for given route (replaces existing cache of same route)
+	 *
+	 * @param definition route definition with {@link Cached} annotation
+	 * @return response cache of route
+	 */
+	public ResponseCache register(RouteDefinition definition) {
+
+		Cached cached = definition.getCached();
+		Assert.notNull(cached, "Missing @Cached definition for: " + definition);
+
+		String name = definition.getMethod() + " " + definition.getRoutePath();
+		ResponseCache cache = new ResponseCache(name,
+		                                        cached.unit().toMillis(cached.ttl()),
+		                                        cached.maxEntries(),
+		                                        cached.maxBytes(),
+		                                        cached.key());
+
+		caches.put(name, cache);
+		return cache;
+	}
+
+	/**
+	 * @param name of route as method and route path, for instance: "GET /items/:id"
+	 * @return response cache of route or null if route is not cached
+	 */
+	public ResponseCache get(String name) {
+
+		return caches.get(name);
+	}
+
+	/**
+	 * @return all response caches
+	 */
+	public List<ResponseCache> getAll() {
+
+		return new ArrayList<>(caches.values());
+	}
+
+	/**
+	 * Removes all cached responses
+	 */
+	public void invalidate() {
+
+		caches.values().forEach(ResponseCache::invalidate);
+	}
+
+	/**
+	 * Removes cached responses of given request path (and sub paths) from all caches
+	 *
+	 * @param path request path, for instance: "/items/1"
+	 */
+	public void invalidate(String path) {
+
+		caches.values().forEach(cache -> cache.invalidate(path));
+	}
+
+	/**
+	 * Removes all caches
+	 */
+	public void clear() {
+
+		caches.clear();
+	}
+}
@@ -0,0 +1,21 @@
+package com.zandero.rest.concurrency;
+
+/**
+ * Max number of concurrently executed requests of a route, fixed or adjusted from observed request latency
+ */
+public interface ConcurrencyLimit {
+
+	/**
+	 * @return current max number of requests executed concurrently
+	 */
+	int getLimit();
+
+	/**
+	 * Invoked once request holding a permit is finished
+	 *
+	 * @param rtt      request round trip time in nanoseconds
+	 * @param inFlight number of requests executed concurrently (including finished request)
+	 * @param dropped  true if request timed out, was rejected or connection was closed
+	 */
+	void onSample(long rtt, int inFlight, boolean dropped);
+}
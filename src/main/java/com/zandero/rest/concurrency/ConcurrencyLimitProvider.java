@@ -0,0 +1,16 @@
+package com.zandero.rest.concurrency;
+
+import com.zandero.rest.data.RouteDefinition;
+
+/**
+ * Provides adaptive concurrency limit for routes with @MaxConcurrency(adaptive = true)
+ */
+@FunctionalInterface
+public interface ConcurrencyLimitProvider {
+
+	/**
+	 * @param definition route definition, {@link RouteDefinition#getMaxConcurrency()} limit is the initial limit
+	 * @return new limit instance for given route
+	 */
+	ConcurrencyLimit provide(RouteDefinition definition);
+}
@@ -0,0 +1,238 @@
+package com.zandero.rest.concurrency;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds number of concurrently executed requests of a single route, excess requests wait in a bounded queue or are rejected
+ * Permit of finished request is handed over to first request waiting in queue
+ *
+ * Limit is either fixed or adapted from observed request latency (see {@link ConcurrencyLimit})
+ */
+public class ConcurrencyLimiter {
+
+	private final String name;
+
+	private final ConcurrencyLimit limit;
+
+	private final int maxQueued;
+
+	private final long queueTimeout;
+
+	private final int retryAfter;
+
+	private final ArrayDeque<Waiting> queue = new ArrayDeque<>();
+
+	private int inFlight;
+
+	private final LongAdder rejected = new LongAdder();
+
+	/**
+	 * @param name         of limiter (route)
+	 * @param limit        max number of requests executed concurrently
+	 * @param maxQueued    max number of requests waiting for execution
+	 * @param queueTimeout max time in milliseconds a request waits in queue, 0 to wait until executed
+	 * @param retryAfter   seconds a rejected client should wait before retrying
+	 */
+	public ConcurrencyLimiter(String name, int limit, int maxQueued, long queueTimeout, int retryAfter) {
+
+		this(name, new FixedLimit(limit), maxQueued, queueTimeout, retryAfter);
+	}
+
+	/**
+	 * @param name         of limiter (route)
+	 * @param limit        fixed or adaptive limit of requests executed concurrently
+	 * @param maxQueued    max number of requests waiting for execution
+	 * @param queueTimeout max time in milliseconds a request waits in queue, 0 to wait until executed
+	 * @param retryAfter   seconds a rejected client should wait before retrying
+	 */
+	public ConcurrencyLimiter(String name, ConcurrencyLimit limit, int maxQueued, long queueTimeout, int retryAfter) {
+
+		Assert.notNull(limit, "Missing concurrency limit!");
+		Assert.isTrue(maxQueued >= 0, "Concurrency queue size must be >= 0!");
+		Assert.isTrue(queueTimeout >= 0, "Concurrency queue timeout must be >= 0!");
+		Assert.isTrue(retryAfter >= 0, "Retry after must be >= 0!");
+
+		this.name = name;
+		this.limit = limit;
+		this.maxQueued = maxQueued;
+		this.queueTimeout = queueTimeout;
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * Acquires permit to execute request, waits in queue if limit is reached
+	 * Acquired permit must be released once request is finished
+	 *
+	 * @param vertx    to schedule queue timeout
+	 * @param acquired invoked once permit is acquired (on calling context)
+	 * @param rejected invoked if limit is reached and queue is full or queue timeout passed (on calling context)
+	 */
+	public void acquire(Vertx vertx, Handler<Void> acquired, Handler<Void> rejected) {
+
+		boolean granted = false;
+		synchronized (this) {
+
+			if (inFlight < limit.getLimit()) {
+				inFlight++;
+				granted = true;
+			}
+			else if (queue.size() < maxQueued) {
+				queue.add(new Waiting(vertx, acquired, rejected));
+				return;
+			}
+		}
+
+		if (granted) {
+			acquired.handle(null);
+		}
+		else {
+			this.rejected.increment();
+			rejected.handle(null);
+		}
+	}
+
+	/**
+	 * Releases acquired permit without affecting limit (request was not executed)
+	 */
+	public void release() {
+
+		release(false, 0, false);
+	}
+
+	/**
+	 * Releases acquired permit of finished request, permit is handed over to first request waiting in queue (if any)
+	 *
+	 * @param rtt     request round trip time in nanoseconds
+	 * @param dropped true if request timed out or connection was closed
+	 */
+	public void release(long rtt, boolean dropped) {
+
+		release(true, rtt, dropped);
+	}
+
+	private void release(boolean sample, long rtt, boolean dropped) {
+
+		List<Waiting> next = null;
+		synchronized (this) {
+
+			if (sample) {
+				limit.onSample(rtt, inFlight, dropped);
+			}
+
+			inFlight--;
+
+			// limit might have changed ... resume as many as allowed
+			while (inFlight < limit.getLimit() && !queue.isEmpty()) {
+
+				if (next == null) {
+					next = new ArrayList<>();
+				}
+
+				next.add(queue.poll());
+				inFlight++;
+			}
+		}
+
+		if (next != null) {
+			next.forEach(Waiting::acquire);
+		}
+	}
+
+	private synchronized boolean dequeue(Waiting waiting) {
+
+		return queue.remove(waiting);
+	}
+
+	/**
+	 * @return name of limiter (route)
+	 */
+	public String getName() {
+
+		return name;
+	}
+
+	/**
+	 * @return current max number of requests executed concurrently
+	 */
+	public int getLimit() {
+
+		return limit.getLimit();
+	}
+
+	/**
+	 * @return seconds a rejected client should wait before retrying
+	 */
+	public int getRetryAfter() {
+
+		return retryAfter;
+	}
+
+	/**
+	 * @return number of requests currently executed
+	 */
+	public synchronized int getInFlight() {
+
+		return inFlight;
+	}
+
+	/**
+	 * @return number of requests currently waiting in queue
+	 */
+	public synchronized int getQueued() {
+
+		return queue.size();
+	}
+
+	/**
+	 * @return number of rejected requests
+	 */
+	public long getRejected() {
+
+		return rejected.sum();
+	}
+
+	/**
+	 * Request waiting for permit, resumed on its own context
+	 */
+	private final class Waiting {
+
+		private final Vertx vertx;
+
+		private final Context context;
+
+		private final Handler<Void> acquired;
+
+		private final long timer;
+
+		private Waiting(Vertx vertx, Handler<Void> acquired, Handler<Void> rejected) {
+
+			this.vertx = vertx;
+			this.acquired = acquired;
+
+			context = vertx.getOrCreateContext();
+			timer = queueTimeout > 0 ? vertx.setTimer(queueTimeout, id -> {
+				if (dequeue(this)) {
+					ConcurrencyLimiter.this.rejected.increment();
+					rejected.handle(null);
+				}
+			}) : -1;
+		}
+
+		private void acquire() {
+
+			if (timer >= 0) {
+				vertx.cancelTimer(timer);
+			}
+
+			context.runOnContext(v -> acquired.handle(null));
+		}
+	}
+}
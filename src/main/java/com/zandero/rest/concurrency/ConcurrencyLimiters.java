@@ -0,0 +1,68 @@
+package com.zandero.rest.concurrency;
+
+import com.zandero.rest.annotation.MaxConcurrency;
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrency limiters of all registered routes, provides current limit, in flight, queued and rejected request counts
+ */
+public class ConcurrencyLimiters {
+
+	/**
+	 * route (method and path) / limiter
+	 */
+	private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates limiter for given route (replaces existing limiter of same route)
+	 *
+	 * @param definition route definition with {@link MaxConcurrency} annotation
+	 * @param provider   of adaptive limit
+	 * @return concurrency limiter of route
+	 */
+	public ConcurrencyLimiter register(RouteDefinition definition, ConcurrencyLimitProvider provider) {
+
+		MaxConcurrency max = definition.getMaxConcurrency();
+		Assert.notNull(max, "Missing @MaxConcurrency definition for: " + definition);
+
+		ConcurrencyLimit limit = max.adaptive() ? provider.provide(definition) : new FixedLimit(max.limit());
+		Assert.notNull(limit, "Missing adaptive concurrency limit for: " + definition);
+
+		String name = definition.getMethod() + " " + definition.getRoutePath();
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(name, limit, max.queue(), max.queueTimeout(), max.retryAfter());
+
+		limiters.put(name, limiter);
+		return limiter;
+	}
+
+	/**
+	 * @param name of route as method and route path, for instance: "GET /items/:id"
+	 * @return concurrency limiter of route or null if route is not limited
+	 */
+	public ConcurrencyLimiter get(String name) {
+
+		return limiters.get(name);
+	}
+
+	/**
+	 * @return all concurrency limiters
+	 */
+	public List<ConcurrencyLimiter> getAll() {
+
+		return new ArrayList<>(limiters.values());
+	}
+
+	/**
+	 * Removes all limiters
+	 */
+	public void clear() {
+
+		limiters.clear();
+	}
+}
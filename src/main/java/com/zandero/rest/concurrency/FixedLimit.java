@@ -0,0 +1,28 @@
+package com.zandero.rest.concurrency;
+
+import com.zandero.utils.Assert;
+
+/**
+ * Limit not affected by observed latency
+ */
+public class FixedLimit implements ConcurrencyLimit {
+
+	private final int limit;
+
+	public FixedLimit(int limit) {
+
+		Assert.isTrue(limit > 0, "Concurrency limit must be > 0!");
+		this.limit = limit;
+	}
+
+	@Override
+	public int getLimit() {
+
+		return limit;
+	}
+
+	@Override
+	public void onSample(long rtt, int inFlight, boolean dropped) {
+		// fixed
+	}
+}
@@ -0,0 +1,133 @@
+package com.zandero.rest.concurrency;
+
+import com.zandero.utils.Assert;
+
+/**
+ * Adaptive limit adjusted by gradient of minimal (no load) and current request latency
+ *
+ * While current latency stays close to the minimal latency the limit grows (by square root of limit per adjustment),
+ * once latency rises over tolerated minimal latency (requests start to queue up) the limit is lowered proportionally.
+ * Dropped requests (timed out, rejected, closed) lower the limit immediately.
+ *
+ * Minimal latency is tracked over the last two windows of samples so the limit follows lasting changes of latency
+ */
+public class GradientLimit implements ConcurrencyLimit {
+
+	/**
+	 * Default upper bound of adaptive limit
+	 */
+	public static final int DEFAULT_MAX_LIMIT = 1000;
+
+	/**
+	 * current latency tolerated over minimal latency before limit is lowered
+	 */
+	private static final double TOLERANCE = 1.5;
+
+	/**
+	 * weight of new limit estimate
+	 */
+	private static final double SMOOTHING = 0.2;
+
+	/**
+	 * limit decrease on dropped request
+	 */
+	private static final double BACKOFF = 0.9;
+
+	/**
+	 * number of samples current latency is averaged over
+	 */
+	private static final int SHORT_WINDOW = 10;
+
+	/**
+	 * number of samples minimal latency is tracked over
+	 */
+	private static final int MIN_WINDOW = 500;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private double estimatedLimit;
+
+	private volatile int limit;
+
+	private double shortRtt;
+
+	private long minRtt = Long.MAX_VALUE;
+
+	private long previousMinRtt = Long.MAX_VALUE;
+
+	private long samples;
+
+	/**
+	 * @param initialLimit limit before any latency is observed
+	 */
+	public GradientLimit(int initialLimit) {
+
+		this(initialLimit, 1, Math.max(initialLimit, DEFAULT_MAX_LIMIT));
+	}
+
+	/**
+	 * @param initialLimit limit before any latency is observed
+	 * @param minLimit     lower bound of limit
+	 * @param maxLimit     upper bound of limit
+	 */
+	public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+
+		Assert.isTrue(minLimit > 0, "Min concurrency limit must be > 0!");
+		Assert.isTrue(maxLimit >= minLimit, "Max concurrency limit must be >= min limit!");
+		Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit, "Initial concurrency limit must be between min and max limit!");
+
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+
+		estimatedLimit = initialLimit;
+		limit = initialLimit;
+	}
+
+	@Override
+	public int getLimit() {
+
+		return limit;
+	}
+
+	@Override
+	public synchronized void onSample(long rtt, int inFlight, boolean dropped) {
+
+		if (dropped) {
+			update(estimatedLimit * BACKOFF);
+			return;
+		}
+
+		rtt = Math.max(1, rtt);
+		samples++;
+
+		// exponential moving average, shorter window while warming up
+		double factor = 2.0 / (Math.min(samples, SHORT_WINDOW) + 1);
+		shortRtt = samples == 1 ? rtt : shortRtt * (1 - factor) + rtt * factor;
+
+		minRtt = Math.min(minRtt, rtt);
+		long baseline = Math.min(minRtt, previousMinRtt);
+
+		if (samples % MIN_WINDOW == 0) {
+			previousMinRtt = minRtt;
+			minRtt = Long.MAX_VALUE;
+		}
+
+		// not enough load to tell if limit could be higher
+		if (inFlight < estimatedLimit / 2) {
+			return;
+		}
+
+		double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * baseline / shortRtt));
+		double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+		update(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+	}
+
+	private void update(double newLimit) {
+
+		estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+		limit = (int) estimatedLimit;
+	}
+}
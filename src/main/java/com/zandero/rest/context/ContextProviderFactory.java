@@ -17,8 +17,9 @@ import javax.ws.rs.core.Context;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Storage of context providers
@@ -30,7 +31,7 @@ public class ContextProviderFactory extends ClassFactory<ContextProvider> {
 	 * If class needs context injection .. a list of Fields to inject is provided
 	 * If class doesn't need context injection the list of fields in empty (not null)
 	 */
-	private static HashMap<String, List<Field>> contextCache = new HashMap<>();
+	private static final Map<String, List<Field>> contextCache = new ConcurrentHashMap<>();
 
 	@Override
 	protected void init() {
@@ -73,12 +74,11 @@ public class ContextProviderFactory extends ClassFactory<ContextProvider> {
 	private static List<Field> getContextFields(Class<?> clazz) {
 
 		List<Field> contextFields = contextCache.get(clazz.getName());
-		if (contextFields == null) {
-			contextFields = checkForContext(clazz);
-			contextCache.put(clazz.getName(), contextFields);
+		if (contextFields != null) {
+			return contextFields;
 		}
 
-		return contextFields;
+		return contextCache.computeIfAbsent(clazz.getName(), name -> checkForContext(clazz));
 	}
 
 	public static <T> boolean hasContext(Class<? extends T> clazz) {
@@ -140,6 +140,11 @@ public class ContextProviderFactory extends ClassFactory<ContextProvider> {
 			}
 		}
 
+		// REST without time limit
+		if (Deadline.class.equals(type)) {
+			return Deadline.NONE;
+		}
+
 		if (defaultValue != null) {
 			// check if type has constructor that can be used with defaultValue ...
 			// and create Context type on the fly constructed with defaultValue
@@ -0,0 +1,141 @@
+package com.zandero.rest.context;
+
+import com.zandero.utils.Assert;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Time budget of a request with time limit (see {@link com.zandero.rest.annotation.Timeout}), can be injected as @Context
+ * Once expired response is already sent, REST should stop work and results are dropped
+ */
+public final class Deadline {
+
+	/**
+	 * Deadline of requests without time limit, never expires
+	 */
+	public static final Deadline NONE = new Deadline();
+
+	private static final String CONTEXT_KEY = ContextProviderFactory.getContextKey(Deadline.class);
+
+	private final long timeout;
+
+	private final long expires;
+
+	private volatile boolean expired;
+
+	/**
+	 * thread executing REST (interrupted once deadline expires)
+	 */
+	private Thread worker;
+
+	private Deadline() {
+
+		timeout = 0;
+		expires = 0;
+	}
+
+	/**
+	 * @param timeout time limit in milliseconds from now
+	 */
+	public Deadline(long timeout) {
+
+		Assert.isTrue(timeout > 0, "Timeout must be > 0!");
+
+		this.timeout = timeout;
+		expires = System.nanoTime() + timeout * 1_000_000L;
+	}
+
+	/**
+	 * @return time limit in milliseconds, 0 if not limited
+	 */
+	public long getTimeout() {
+
+		return timeout;
+	}
+
+	/**
+	 * @return remaining time in milliseconds (0 if expired), Long.MAX_VALUE if not limited
+	 */
+	public long getRemaining() {
+
+		if (timeout == 0) {
+			return Long.MAX_VALUE;
+		}
+
+		return expired ? 0 : Math.max(0, (expires - System.nanoTime()) / 1_000_000L);
+	}
+
+	/**
+	 * @return true if time limit has passed or request was cancelled (connection closed)
+	 */
+	public boolean isExpired() {
+
+		return expired || (timeout > 0 && expires - System.nanoTime() <= 0);
+	}
+
+	/**
+	 * Binds calling thread to be interrupted once deadline expires
+	 *
+	 * @return false if deadline already expired (REST should not be invoked), true otherwise
+	 */
+	public synchronized boolean bind() {
+
+		if (expired) {
+			return false;
+		}
+
+		worker = Thread.currentThread();
+		return true;
+	}
+
+	/**
+	 * Releases bound thread, clears interrupt caused by expiration so thread can be reused
+	 */
+	public synchronized void unbind() {
+
+		if (worker == Thread.currentThread()) {
+			worker = null;
+
+			if (expired) {
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * Marks deadline as expired
+	 *
+	 * @param interrupt true to interrupt bound thread
+	 * @return true if expired by this call, false if already expired
+	 */
+	public synchronized boolean expire(boolean interrupt) {
+
+		if (expired || this == NONE) {
+			return false;
+		}
+
+		expired = true;
+		if (interrupt && worker != null) {
+			worker.interrupt();
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param context current request
+	 * @return deadline of request or null if not limited
+	 */
+	public static Deadline get(RoutingContext context) {
+
+		return context.get(CONTEXT_KEY);
+	}
+
+	/**
+	 * @param context  current request
+	 * @param deadline of request
+	 */
+	public static void put(RoutingContext context, Deadline deadline) {
+
+		context.put(CONTEXT_KEY, deadline);
+	}
+}
@@ -0,0 +1,125 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.exception.ContextException;
+import com.zandero.rest.injection.InjectionProvider;
+import com.zandero.utils.StringUtils;
+import io.vertx.ext.web.RoutingContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Extracts a single method argument from current request
+ * Created once per route and argument index when route is registered, so nothing needs to be looked up per request
+ */
+public abstract class ArgumentExtractor {
+
+	protected final RouteDefinition definition;
+
+	protected final Method method;
+
+	/**
+	 * index matching method argument index 0..N-1
+	 */
+	protected final int index;
+
+	/**
+	 * type of method argument as declared by method
+	 */
+	protected final Class<?> argumentType;
+
+	/**
+	 * message in case primitive argument is not provided
+	 */
+	private final String missingMessage;
+
+	ArgumentExtractor(RouteDefinition definition, Method method, int index) {
+
+		this.definition = definition;
+		this.method = method;
+		this.index = index;
+
+		argumentType = method.getParameterTypes()[index];
+
+		MethodParameter paramDefinition = definition.findParameter(index);
+		if (paramDefinition != null) {
+			missingMessage = "Missing " + paramDefinition + " for: " + definition.getPath();
+		} else {
+			missingMessage = "Missing " + (index + 1) + " argument for: " + method +
+			                 " expected: " + argumentType + ", but: null was provided!";
+		}
+	}
+
+	/**
+	 * @param context  current request
+	 * @param provider injection provider if any
+	 * @return argument value to be used when invoking method
+	 * @throws Throwable in case argument could not be provided
+	 */
+	public abstract Object extract(RoutingContext context, InjectionProvider provider) throws Throwable;
+
+	/**
+	 * @return true if argument must be provided (primitive type)
+	 */
+	public boolean isRequired() {
+
+		return argumentType.isPrimitive();
+	}
+
+	IllegalArgumentException missing() {
+
+		return new IllegalArgumentException(missingMessage);
+	}
+
+	/**
+	 * Converts exception thrown while extracting argument into a meaningful exception
+	 *
+	 * @param e     exception thrown
+	 * @param value request value that was converted
+	 * @return exception to be thrown
+	 */
+	Throwable getError(Throwable e, String value) {
+
+		return getError(e, value != null ? value.getClass() : null);
+	}
+
+	/**
+	 * Converts exception thrown while extracting argument into a meaningful exception
+	 *
+	 * @param e            exception thrown
+	 * @param providedType type of request value that was converted, null if not provided
+	 * @return exception to be thrown
+	 */
+	Throwable getError(Throwable e, Class<?> providedType) {
+
+		if (e instanceof ContextException) {
+			return new IllegalArgumentException(e.getMessage());
+		}
+
+		if (e instanceof IllegalArgumentException) {
+
+			MethodParameter paramDefinition = definition.findParameter(index);
+			String provided = providedType != null ? providedType.getSimpleName() : "null";
+			String expectedType = argumentType.getTypeName();
+
+			String error;
+			if (paramDefinition != null) {
+				error =
+					"Invalid parameter type for: " + paramDefinition + " for: " + definition.getPath() + ", expected: " + expectedType;
+			} else {
+				error =
+					"Invalid parameter type for " + (index + 1) + " argument for: " + method + " expected: " +
+					expectedType;
+			}
+
+			if (!StringUtils.equals(expectedType, provided, false)) {
+				error = error + ", but got: " + provided;
+			}
+
+			error = error + " -> " + e;
+
+			return new IllegalArgumentException(error, e);
+		}
+
+		return e;
+	}
+}
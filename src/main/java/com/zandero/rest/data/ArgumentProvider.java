@@ -1,255 +1,142 @@
 package com.zandero.rest.data;
 
-import com.zandero.rest.context.ContextProvider;
 import com.zandero.rest.context.ContextProviderFactory;
-import com.zandero.rest.exception.ContextException;
 import com.zandero.rest.injection.InjectionProvider;
 import com.zandero.rest.reader.ReaderFactory;
-import com.zandero.rest.reader.ValueReader;
 import com.zandero.utils.Assert;
 import com.zandero.utils.StringUtils;
 import com.zandero.utils.extra.UrlUtils;
 import io.vertx.core.http.HttpServerRequest;
-import io.vertx.ext.web.Cookie;
 import io.vertx.ext.web.RoutingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.net.URLDecoder;
-import java.util.List;
 import java.util.Map;
 
 /**
  * Extracts arguments to be provided for given method from definition and current context (request)
+ * Route definitions are compiled into argument extractors once, when route is registered
  */
 public class ArgumentProvider {
 
 	private final static Logger log = LoggerFactory.getLogger(ArgumentProvider.class);
 
-	@SuppressWarnings("unchecked")
-	public static Object[] getArguments(Method method,
-	                                    RouteDefinition definition,
-	                                    RoutingContext context,
-	                                    ReaderFactory readers,
-	                                    ContextProviderFactory providerFactory,
-	                                    InjectionProvider injectionProvider) throws Throwable {
+	/**
+	 * Compiles route definition into a list of argument extractors, one for each method argument
+	 *
+	 * @param method     to provide arguments for
+	 * @param definition route definition
+	 * @param readers    value reader factory
+	 * @param providers  context provider factory
+	 * @return array of extractors matching method arguments (empty if method has no arguments)
+	 */
+	public static ArgumentExtractor[] compile(Method method,
+	                                          RouteDefinition definition,
+	                                          ReaderFactory readers,
+	                                          ContextProviderFactory providers) {
 
 		Assert.notNull(method, "Missing method to provide arguments for!");
 		Assert.notNull(definition, "Missing route definition!");
-		Assert.notNull(context, "Missing vert.x routing context!");
-
-		Class<?>[] methodArguments = method.getParameterTypes();
-
-		if (methodArguments.length == 0) {
-			return null;    // no arguments needed ...
-		}
 
-		// get parameters and extract from request their values
-		List<MethodParameter> params = definition.getParameters(); // returned sorted by index
+		ArgumentExtractor[] extractors = new ArgumentExtractor[method.getParameterCount()];
 
-		Object[] args = new Object[methodArguments.length];
+		for (MethodParameter parameter : definition.getParameters()) { // returned sorted by index
 
-		for (MethodParameter parameter : params) {
-
-			if (!parameter.isUsedAsArgument()) {
+			// set if we have a place to set it ... otherwise ignore
+			if (!parameter.isUsedAsArgument() || parameter.getIndex() >= extractors.length) {
 				continue;
 			}
 
-			// set if we have a place to set it ... otherwise ignore
-			if (parameter.getIndex() < args.length) {
-
-				// get value
-				String value = getValue(definition, parameter, context, parameter.getDefaultValue());
-
-				Class<?> dataType = parameter.getDataType();
-				if (dataType == null) {
-					dataType = methodArguments[parameter.getIndex()];
-				}
-
-				try {
-					switch (parameter.getType()) {
-
-						/*case bean :
-
-							// TODO : initialize bean
-                            BeanProvider beanProvider = providerFactory.get(dataType, injectionProvider, context, null);
-                            if (beanProvider != null) {
-                                Object result = beanProvider.provide(context.request());
-                                if (result != null) {
-                                    context.data().put(ContextProviderFactory.getContextKey(dataType), result);
-                                }
-                            }
-
-                            args[parameter.getIndex()] = ContextProviderFactory.provideContext(method.getParameterTypes()[parameter.getIndex()],
-                                    parameter.getDefaultValue(),
-                                    context);
-
-							break;*//**/
-						case context:
-
-							// check if providers need to be called to assure context
-							ContextProvider provider = providerFactory.get(dataType, parameter.getContextProvider(), injectionProvider, context, null);
-							if (provider != null) {
-								Object result = provider.provide(context.request());
-								if (result != null) {
-									context.data().put(ContextProviderFactory.getContextKey(dataType), result);
-								}
-							}
-
-							args[parameter.getIndex()] = ContextProviderFactory.provideContext(method.getParameterTypes()[parameter.getIndex()],
-							                                                                   parameter.getDefaultValue(),
-							                                                                   context);
-							break;
-
-						default:
-
-							ValueReader valueReader = getValueReader(injectionProvider, parameter, definition, context, readers);
-							args[parameter.getIndex()] = valueReader.read(value, dataType);
-							break;
-					}
-				}
-				catch (Throwable e) {
-
-					if (e instanceof ContextException) {
-						throw new IllegalArgumentException(e.getMessage());
-					}
-
-					if (e instanceof IllegalArgumentException) {
-
-						MethodParameter paramDefinition = definition.findParameter(parameter.getIndex());
-						String providedType = value != null ? value.getClass().getSimpleName() : "null";
-						String expectedType = method.getParameterTypes()[parameter.getIndex()].getTypeName();
-
-						String error;
-						if (paramDefinition != null) {
-							error =
-								"Invalid parameter type for: " + paramDefinition + " for: " + definition.getPath() + ", expected: " + expectedType;
-						} else {
-							error =
-								"Invalid parameter type for " + (parameter.getIndex() + 1) + " argument for: " + method + " expected: " +
-								expectedType;
-						}
-
-						if (!StringUtils.equals(expectedType, providedType, false)) {
-							error = error + ", but got: " + providedType;
-						}
-
-						error = error + " -> " + e;
-
-						throw new IllegalArgumentException(error, e);
-					}
-
-					throw e;
-				}
+			if (ParameterType.context.equals(parameter.getType())) {
+				extractors[parameter.getIndex()] = new ContextArgumentExtractor(definition, method, parameter, providers);
+			} else if (parameter.isBody() && definition.streamsBody()) {
+				extractors[parameter.getIndex()] = new StreamArgumentExtractor(definition, method, parameter.getIndex());
+			} else {
+				extractors[parameter.getIndex()] = new ValueArgumentExtractor(definition, method, parameter, readers);
 			}
 		}
 
-		// parameter check ...
-		for (int index = 0; index < args.length; index++) {
-			Parameter param = method.getParameters()[index];
-			if (args[index] == null && param.getType().isPrimitive()) {
-
-				MethodParameter paramDefinition = definition.findParameter(index);
-				if (paramDefinition != null) {
-					throw new IllegalArgumentException("Missing " + paramDefinition + " for: " + definition.getPath());
-				}
-
-				throw new IllegalArgumentException("Missing " + (index + 1) + " argument for: " + method +
-				                                   " expected: " + param.getType() + ", but: null was provided!");
+		for (int index = 0; index < extractors.length; index++) {
+			if (extractors[index] == null) {
+				extractors[index] = new NullArgumentExtractor(definition, method, index);
 			}
 		}
 
-		return args;
+		return extractors;
 	}
 
-	private static String getValue(RouteDefinition definition, MethodParameter param, RoutingContext context, String defaultValue) {
-
-		String value = getValue(definition, param, context);
+	/**
+	 * Extracts arguments from current request using compiled extractors
+	 *
+	 * @param extractors        as compiled for route
+	 * @param context           current request
+	 * @param injectionProvider injection provider if any
+	 * @return arguments to invoke method with, or null if method has no arguments
+	 * @throws Throwable in case arguments could not be provided
+	 */
+	public static Object[] getArguments(ArgumentExtractor[] extractors,
+	                                    RoutingContext context,
+	                                    InjectionProvider injectionProvider) throws Throwable {
 
-		if (value == null) {
-			return defaultValue;
+		if (extractors.length == 0) {
+			return null;    // no arguments needed ...
 		}
 
-		return value;
-	}
-
-	private static String getValue(RouteDefinition definition, MethodParameter param, RoutingContext context) {
-
-		switch (param.getType()) {
-			case path:
-
-				String path;
-				if (definition.pathIsRegEx()) { // RegEx is special, params values are given by index
-					path = getParam(context.mountPoint(), context.request(), param.getPathIndex());
-				} else {
-					path = context.request().getParam(param.getName());
-				}
-
-				// if @MatrixParams are present ... those need to be removed
-				path = removeMatrixFromPath(path, definition);
-				return path;
-
-			case query:
-				Map<String, String> query = UrlUtils.getQuery(context.request().query());
-				String value = query.get(param.getName());
-
-				// user specified @Raw annotation ... provide as it is
-				if (param.isRaw()) {
-					return value;
-				}
+		Object[] args = new Object[extractors.length];
+		for (int index = 0; index < extractors.length; index++) {
+			args[index] = extractors[index].extract(context, injectionProvider);
+		}
 
-				// by default decode
-				if (!StringUtils.isNullOrEmptyTrimmed(value)) {
-					try {
-						return URLDecoder.decode(value, "UTF-8");
-					}
-					catch (UnsupportedEncodingException e) {
-						log.warn("Failed to decode query: " + value, e);
-					}
-				}
+		// parameter check ...
+		for (int index = 0; index < args.length; index++) {
+			if (args[index] == null && extractors[index].isRequired()) {
+				throw extractors[index].missing();
+			}
+		}
 
-				return value;
+		return args;
+	}
 
-			case cookie:
-				Cookie cookie = context.getCookie(param.getName());
-				return cookie == null ? null : cookie.getValue();
+	public static Object[] getArguments(Method method,
+	                                    RouteDefinition definition,
+	                                    RoutingContext context,
+	                                    ReaderFactory readers,
+	                                    ContextProviderFactory providerFactory,
+	                                    InjectionProvider injectionProvider) throws Throwable {
 
-			case form:
-				return context.request().getFormAttribute(param.getName());
+		Assert.notNull(context, "Missing vert.x routing context!");
 
-			case matrix:
-				return getMatrixParam(context.request(), param.getName());
+		ArgumentExtractor[] extractors = compile(method, definition, readers, providerFactory);
+		return getArguments(extractors, context, injectionProvider);
+	}
 
-			case header:
-				return context.request().getHeader(param.getName());
+	static String getQueryParam(HttpServerRequest request, String name, boolean raw) {
 
-			case body:
-				return context.getBodyAsString();
+		Map<String, String> query = UrlUtils.getQuery(request.query());
+		String value = query.get(name);
 
-			default:
-				return null;
+		// user specified @Raw annotation ... provide as it is
+		if (raw) {
+			return value;
 		}
-	}
 
-	private static ValueReader getValueReader(InjectionProvider provider,
-	                                          MethodParameter parameter,
-	                                          RouteDefinition definition,
-	                                          RoutingContext context,
-	                                          ReaderFactory
-		                                          readers) {
-
-		// get associated reader set in parameter
-		if (parameter.isBody()) {
-			return readers.get(parameter, parameter.getReader(), provider, context, definition.getConsumes());
-		} else {
-			return readers.get(parameter, parameter.getReader(), provider, context);
+		// by default decode
+		if (!StringUtils.isNullOrEmptyTrimmed(value)) {
+			try {
+				return URLDecoder.decode(value, "UTF-8");
+			}
+			catch (UnsupportedEncodingException e) {
+				log.warn("Failed to decode query: " + value, e);
+			}
 		}
+
+		return value;
 	}
 
-	private static String getParam(String mountPoint, HttpServerRequest request, int index) {
+	static String getParam(String mountPoint, HttpServerRequest request, int index) {
 
 		String param = request.getParam("param" + index); // default mount of params without name param0, param1 ...
 		if (param == null) { // failed to get directly ... try from request path
@@ -277,18 +164,15 @@ public class ArgumentProvider {
 	/**
 	 * Removes matrix params from path
 	 *
-	 * @param path       to clean up
-	 * @param definition to check if matrix params are present
+	 * @param path to clean up
 	 * @return cleaned up path
 	 */
-	private static String removeMatrixFromPath(String path, RouteDefinition definition) {
+	static String removeMatrixFromPath(String path) {
 
 		// simple removal ... we don't care what matrix attributes were given
-		if (definition.hasMatrixParams()) {
-			int index = path.indexOf(";");
-			if (index > 0) {
-				return path.substring(0, index);
-			}
+		int index = path.indexOf(";");
+		if (index > 0) {
+			return path.substring(0, index);
 		}
 
 		return path;
@@ -300,7 +184,7 @@ public class ArgumentProvider {
 	 * @return found parameter value or null if none found
 	 */
 	// TODO: this might be slow at times ... pre-parse matrix into hash map ... and store
-	private static String getMatrixParam(HttpServerRequest request, String name) {
+	static String getMatrixParam(HttpServerRequest request, String name) {
 
 		// get URL ... and find ;name=value pair
 		String url = request.uri();
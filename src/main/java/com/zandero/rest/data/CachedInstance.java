@@ -0,0 +1,33 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.injection.InjectionProvider;
+
+/**
+ * Holds instance resolved from class factory,
+ * valid as long as factory registrations and injection provider are not changed
+ */
+final class CachedInstance<T> {
+
+	private final T instance;
+
+	private final int version;
+
+	private final InjectionProvider provider;
+
+	CachedInstance(T instance, int version, InjectionProvider provider) {
+
+		this.instance = instance;
+		this.version = version;
+		this.provider = provider;
+	}
+
+	T get() {
+
+		return instance;
+	}
+
+	boolean isValid(int currentVersion, InjectionProvider currentProvider) {
+
+		return version == currentVersion && provider == currentProvider;
+	}
+}
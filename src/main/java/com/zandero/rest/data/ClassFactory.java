@@ -18,6 +18,8 @@ import sun.reflect.generics.reflectiveObjects.TypeVariableImpl;
 import javax.ws.rs.core.MediaType;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Simple class instance cache and class factory utility
@@ -27,19 +29,26 @@ public abstract class ClassFactory<T> {
 	private final static Logger log = LoggerFactory.getLogger(ClassFactory.class);
 
 	/**
-	 * Cache of class instances
+	 * Cache of class instances (lazily populated on requests)
 	 */
-	private Map<String, T> cache = new HashMap<>();
+	private final Map<String, T> cache = new ConcurrentHashMap<>();
 
 	/**
 	 * map of class associated with class type (to be instantiated)
+	 * changed on registration only, read on requests
 	 */
-	protected Map<Class, Class<? extends T>> classTypes = new LinkedHashMap<>();
+	protected final Map<Class, Class<? extends T>> classTypes = new CopyOnWriteMap<>();
 
 	/**
 	 * map of media type associated with class type (to be instantiated)
+	 * changed on registration only, read on requests
 	 */
-	protected Map<String, Class<? extends T>> mediaTypes = new LinkedHashMap<>();
+	protected final Map<String, Class<? extends T>> mediaTypes = new CopyOnWriteMap<>();
+
+	/**
+	 * Incremented on every registration or clear, so resolved instances held outside of factory can be invalidated
+	 */
+	private final AtomicInteger version = new AtomicInteger();
 
 	private static Class[] SIMPLE_TYPE = new Class[]{
 		String.class,
@@ -68,11 +77,45 @@ public abstract class ClassFactory<T> {
 		cache.clear();
 
 		init();
+		changed();
+	}
+
+	/**
+	 * @return current registration version, changes every time a new type is registered or factory is cleared
+	 */
+	public int getVersion() {
+
+		return version.get();
 	}
 
-	private void cache(T instance) {
+	protected void changed() {
 
-		cache.put(instance.getClass().getName(), instance);
+		version.incrementAndGet();
+	}
+
+	/**
+	 * Checks if instance provided by factory can be reused (no @Context injection and no @NoCache annotation)
+	 *
+	 * @param instance to inspect
+	 * @return true if instance can be reused for all requests, false if it must be provided for every request
+	 */
+	public static boolean isCacheable(Object instance) {
+
+		if (instance == null) {
+			return true;
+		}
+
+		Class<?> clazz = instance.getClass();
+		while (clazz != null && clazz != Object.class) {
+
+			if (clazz.getAnnotation(NoCache.class) != null || ContextProviderFactory.hasContext(clazz)) {
+				return false;
+			}
+
+			clazz = clazz.getSuperclass();
+		}
+
+		return true;
 	}
 
 	private T getCached(Class<? extends T> clazz) {
@@ -94,21 +137,45 @@ public abstract class ClassFactory<T> {
 		boolean hasContext = ContextProviderFactory.hasContext(clazz);
 		boolean cacheIt = clazz.getAnnotation(NoCache.class) == null; // caching disabled / enabled
 
-		T instance = null;
-		if (!hasContext && cacheIt) { // no Context ... we can get it from cache
-			instance = getCached(clazz);
+		if (hasContext || !cacheIt) {
+			return (T) newInstanceOf(clazz, provider, context);
 		}
 
-		if (instance == null) {
-
-			instance = (T) newInstanceOf(clazz, provider, context);
+		// no Context ... we can get it from cache
+		T instance = getCached(clazz);
+		if (instance != null) {
+			return instance;
+		}
 
-			if (!hasContext && cacheIt) { // no context .. we can cache this instance
-				cache(instance);
+		// create and cache instance once, even if requested concurrently
+		try {
+			return cache.computeIfAbsent(clazz.getName(), name -> {
+				try {
+					return (T) newInstanceOf(clazz, provider, context);
+				}
+				catch (ClassFactoryException | ContextException e) {
+					throw new InstanceException(e);
+				}
+			});
+		}
+		catch (InstanceException e) {
+			if (e.getCause() instanceof ContextException) {
+				throw (ContextException) e.getCause();
 			}
+
+			throw (ClassFactoryException) e.getCause();
 		}
+	}
 
-		return instance;
+	/**
+	 * Carries checked exception out of cache computation
+	 */
+	private static class InstanceException extends RuntimeException {
+
+		InstanceException(Exception cause) {
+
+			super(cause);
+		}
 	}
 
 	public static Object newInstanceOf(Class<?> clazz,
@@ -205,6 +272,7 @@ public abstract class ClassFactory<T> {
 
 		String key = MediaTypeHelper.getKey(type);
 		mediaTypes.put(key, clazz);
+		changed();
 	}
 
 	protected void register(String mediaType, T clazz) {
@@ -217,6 +285,7 @@ public abstract class ClassFactory<T> {
 
 		String key = MediaTypeHelper.getKey(type);
 		cache.put(key, clazz);
+		changed();
 	}
 
 
@@ -227,6 +296,7 @@ public abstract class ClassFactory<T> {
 
 		String key = MediaTypeHelper.getKey(mediaType);
 		mediaTypes.put(key, clazz);
+		changed();
 	}
 
 	protected void register(MediaType mediaType, T clazz) {
@@ -236,12 +306,14 @@ public abstract class ClassFactory<T> {
 
 		String key = MediaTypeHelper.getKey(mediaType);
 		cache.put(key, clazz);
+		changed();
 	}
 
 	protected void register(T clazz) {
 
 		Assert.notNull(clazz, "Missing class instance!");
 		cache.put(clazz.getClass().getName(), clazz);
+		changed();
 	}
 
 	protected void register(Class<?> aClass, Class<? extends T> clazz) {
@@ -255,6 +327,7 @@ public abstract class ClassFactory<T> {
 		}
 
 		classTypes.put(aClass, clazz);
+		changed();
 	}
 
 
@@ -282,6 +355,7 @@ public abstract class ClassFactory<T> {
 		}
 
 		cache.put(aClass.getName(), instance);
+		changed();
 	}
 
 	// TODO : move media type specific into a new class that Reader, Writer factory derives from
@@ -342,9 +416,10 @@ public abstract class ClassFactory<T> {
 			return null;
 		}
 		// try to find appropriate class if mapped (by type)
-		for (Class key : classTypes.keySet()) {
+		for (Map.Entry<Class, Class<? extends T>> entry : classTypes.entrySet()) {
+			Class key = entry.getKey();
 			if (key.isInstance(type) || key.isAssignableFrom(type)) {
-				return classTypes.get(key);
+				return entry.getValue();
 			}
 		}
 
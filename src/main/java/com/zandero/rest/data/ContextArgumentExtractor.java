@@ -0,0 +1,78 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.context.ContextProvider;
+import com.zandero.rest.context.ContextProviderFactory;
+import com.zandero.rest.injection.InjectionProvider;
+import io.vertx.ext.web.RoutingContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Provides @Context argument, calling associated context provider first if any
+ */
+final class ContextArgumentExtractor extends ArgumentExtractor {
+
+	private final MethodParameter parameter;
+
+	private final ContextProviderFactory providers;
+
+	private final Class<?> dataType;
+
+	private final String contextKey;
+
+	private final String defaultValue;
+
+	private volatile CachedInstance<ContextProvider> cached;
+
+	ContextArgumentExtractor(RouteDefinition definition,
+	                         Method method,
+	                         MethodParameter parameter,
+	                         ContextProviderFactory providers) {
+
+		super(definition, method, parameter.getIndex());
+
+		this.parameter = parameter;
+		this.providers = providers;
+
+		dataType = parameter.getDataType() != null ? parameter.getDataType() : argumentType;
+		contextKey = ContextProviderFactory.getContextKey(dataType);
+		defaultValue = parameter.getDefaultValue();
+	}
+
+	@Override
+	public Object extract(RoutingContext context, InjectionProvider injectionProvider) throws Throwable {
+
+		try {
+			// check if providers need to be called to assure context
+			ContextProvider provider = getProvider(injectionProvider, context);
+			if (provider != null) {
+				Object result = provider.provide(context.request());
+				if (result != null) {
+					context.data().put(contextKey, result);
+				}
+			}
+
+			return ContextProviderFactory.provideContext(argumentType, defaultValue, context);
+		}
+		catch (Throwable e) {
+			throw getError(e, defaultValue);
+		}
+	}
+
+	private ContextProvider getProvider(InjectionProvider injectionProvider, RoutingContext context) throws Throwable {
+
+		int version = providers.getVersion();
+
+		CachedInstance<ContextProvider> current = cached;
+		if (current != null && current.isValid(version, injectionProvider)) {
+			return current.get();
+		}
+
+		ContextProvider provider = providers.get(dataType, parameter.getContextProvider(), injectionProvider, context, null);
+		if (ClassFactory.isCacheable(provider)) {
+			cached = new CachedInstance<>(provider, version, injectionProvider);
+		}
+
+		return provider;
+	}
+}
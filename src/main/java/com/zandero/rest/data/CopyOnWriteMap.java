@@ -0,0 +1,75 @@
+package com.zandero.rest.data;
+
+import java.util.*;
+
+/**
+ * Insertion ordered map for rarely changed registrations read on every request
+ * Readers work on an immutable snapshot without locking, every change copies the snapshot
+ */
+public class CopyOnWriteMap<K, V> extends AbstractMap<K, V> {
+
+	private volatile Map<K, V> snapshot = Collections.emptyMap();
+
+	@Override
+	public V get(Object key) {
+
+		return snapshot.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+
+		return snapshot.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+
+		return snapshot.size();
+	}
+
+	/**
+	 * @return entries of current snapshot (not affected by later changes)
+	 */
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+
+		return snapshot.entrySet();
+	}
+
+	@Override
+	public synchronized V put(K key, V value) {
+
+		Map<K, V> copy = new LinkedHashMap<>(snapshot);
+		V previous = copy.put(key, value);
+		snapshot = Collections.unmodifiableMap(copy);
+		return previous;
+	}
+
+	@Override
+	public synchronized void putAll(Map<? extends K, ? extends V> map) {
+
+		Map<K, V> copy = new LinkedHashMap<>(snapshot);
+		copy.putAll(map);
+		snapshot = Collections.unmodifiableMap(copy);
+	}
+
+	@Override
+	public synchronized V remove(Object key) {
+
+		if (!snapshot.containsKey(key)) {
+			return null;
+		}
+
+		Map<K, V> copy = new LinkedHashMap<>(snapshot);
+		V previous = copy.remove(key);
+		snapshot = Collections.unmodifiableMap(copy);
+		return previous;
+	}
+
+	@Override
+	public synchronized void clear() {
+
+		snapshot = Collections.emptyMap();
+	}
+}
@@ -0,0 +1,148 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.exception.ConstraintException;
+import com.zandero.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.MethodDescriptor;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Validates arguments and result of a single REST method with given validator
+ * Created (see {@link RouteValidator}) only if method has constrained (or cascaded) parameters or return value,
+ * so unconstrained methods are not validated at all
+ */
+public class MethodValidator {
+
+	private final static Logger log = LoggerFactory.getLogger(MethodValidator.class);
+
+	private final ExecutableValidator validator;
+
+	private final Object toInvoke;
+
+	private final Method method;
+
+	private final RouteDefinition definition;
+
+	private final MethodDescriptor descriptor;
+
+	private final boolean parameters;
+
+	private final boolean returnValue;
+
+	private MethodValidator(ExecutableValidator validator,
+	                        Object toInvoke,
+	                        Method method,
+	                        RouteDefinition definition,
+	                        MethodDescriptor descriptor,
+	                        boolean parameters,
+	                        boolean returnValue) {
+
+		this.validator = validator;
+		this.toInvoke = toInvoke;
+		this.method = method;
+		this.definition = definition;
+		this.descriptor = descriptor;
+		this.parameters = parameters;
+		this.returnValue = returnValue;
+	}
+
+	/**
+	 * @param validator  validator or null if not validating
+	 * @param toInvoke   REST API instance
+	 * @param method     REST method
+	 * @param definition route definition
+	 * @return method validator or null if no validator is given or method has no constraints
+	 */
+	public static MethodValidator create(Validator validator, Object toInvoke, Method method, RouteDefinition definition) {
+
+		if (validator == null) {
+			return null;
+		}
+
+		Assert.notNull(toInvoke, "Missing REST API instance!");
+		Assert.notNull(method, "Missing REST method!");
+
+		MethodDescriptor descriptor;
+		try {
+			descriptor = validator.getConstraintsForClass(toInvoke.getClass())
+			                      .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+		}
+		catch (ValidationException | IllegalArgumentException e) {
+			// metadata not available ... validate on every request
+			log.debug("Failed to read constraints of: {}, validating arguments and result: {}", method, e.getMessage());
+			return new MethodValidator(validator.forExecutables(), toInvoke, method, definition, null, true, true);
+		}
+
+		if (descriptor == null) { // no constraints on method
+			return null;
+		}
+
+		boolean parameters = descriptor.hasConstrainedParameters();
+		boolean returnValue = descriptor.hasConstrainedReturnValue();
+
+		if (!parameters && !returnValue) {
+			return null;
+		}
+
+		return new MethodValidator(validator.forExecutables(), toInvoke, method, definition, descriptor, parameters, returnValue);
+	}
+
+	/**
+	 * @return constraint metadata of method or null if not available
+	 */
+	public MethodDescriptor getDescriptor() {
+
+		return descriptor;
+	}
+
+	/**
+	 * @return true if method arguments are validated
+	 */
+	public boolean validatesParameters() {
+
+		return parameters;
+	}
+
+	/**
+	 * @return true if method result is validated
+	 */
+	public boolean validatesReturnValue() {
+
+		return returnValue;
+	}
+
+	/**
+	 * @param args method arguments
+	 * @throws ConstraintException in case arguments are not valid
+	 */
+	public void validateParameters(Object[] args) {
+
+		if (parameters && args != null) {
+			Set<ConstraintViolation<Object>> result = validator.validateParameters(toInvoke, method, args);
+			if (result != null && result.size() > 0) {
+				throw new ConstraintException(definition, result);
+			}
+		}
+	}
+
+	/**
+	 * @param result method result
+	 * @throws ConstraintException in case result is not valid
+	 */
+	public void validateReturnValue(Object result) {
+
+		if (returnValue) {
+			Set<ConstraintViolation<Object>> violations = validator.validateReturnValue(toInvoke, method, result);
+			if (violations != null && violations.size() > 0) {
+				throw new ConstraintException(definition, violations);
+			}
+		}
+	}
+}
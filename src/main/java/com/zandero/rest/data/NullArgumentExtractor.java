@@ -0,0 +1,23 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.injection.InjectionProvider;
+import io.vertx.ext.web.RoutingContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Method argument not bound to any request parameter, always provided as null
+ */
+final class NullArgumentExtractor extends ArgumentExtractor {
+
+	NullArgumentExtractor(RouteDefinition definition, Method method, int index) {
+
+		super(definition, method, index);
+	}
+
+	@Override
+	public Object extract(RoutingContext context, InjectionProvider provider) {
+
+		return null;
+	}
+}
@@ -0,0 +1,139 @@
+package com.zandero.rest.data;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Request body provided as stream, request is paused until a data handler is set so no body chunk gets lost
+ * while REST method is invoked (possibly on another thread).
+ *
+ * All calls on the underlying request are dispatched to the request context, as REST method might consume the body
+ * from a worker thread.
+ */
+public final class RequestBodyStream implements ReadStream<Buffer> {
+
+	private static final String BODY_STREAM = "RestRouter-BodyStream";
+
+	private final HttpServerRequest request;
+
+	private final Context context;
+
+	/**
+	 * set once body is consumed or drained ... only accessed from request context
+	 */
+	private boolean started;
+
+	private RequestBodyStream(HttpServerRequest request, Context context) {
+
+		this.request = request;
+		this.context = context;
+	}
+
+	/**
+	 * Pauses request until body is consumed by REST method, must be called from request (event loop) context
+	 *
+	 * @param routingContext current request
+	 * @return body stream to be provided to REST method
+	 */
+	public static RequestBodyStream hold(RoutingContext routingContext) {
+
+		RequestBodyStream stream = new RequestBodyStream(routingContext.request(), routingContext.vertx().getOrCreateContext());
+		routingContext.put(BODY_STREAM, stream);
+
+		routingContext.request().pause();
+		return stream;
+	}
+
+	/**
+	 * @param routingContext current request
+	 * @return body stream held for this request or new stream if none was held
+	 */
+	static RequestBodyStream get(RoutingContext routingContext) {
+
+		RequestBodyStream stream = routingContext.get(BODY_STREAM);
+		if (stream != null) {
+			return stream;
+		}
+
+		return new RequestBodyStream(routingContext.request(), routingContext.vertx().getOrCreateContext());
+	}
+
+	/**
+	 * Discards body if REST method did not read it (or request was answered before method was invoked),
+	 * so paused request doesn't block the connection
+	 */
+	public void release() {
+
+		run(() -> {
+			if (!started) {
+				started = true;
+				request.handler(null);
+				request.resume();
+			}
+		});
+	}
+
+	@Override
+	public RequestBodyStream exceptionHandler(Handler<Throwable> handler) {
+
+		run(() -> request.exceptionHandler(handler));
+		return this;
+	}
+
+	@Override
+	public RequestBodyStream handler(Handler<Buffer> handler) {
+
+		run(() -> {
+			request.handler(handler);
+
+			if (handler != null && !started) { // first consumer starts the flow
+				started = true;
+				request.resume();
+			}
+		});
+
+		return this;
+	}
+
+	@Override
+	public RequestBodyStream pause() {
+
+		run(request::pause);
+		return this;
+	}
+
+	@Override
+	public RequestBodyStream resume() {
+
+		run(request::resume);
+		return this;
+	}
+
+	@Override
+	public RequestBodyStream fetch(long amount) {
+
+		run(() -> request.fetch(amount));
+		return this;
+	}
+
+	@Override
+	public RequestBodyStream endHandler(Handler<Void> endHandler) {
+
+		run(() -> request.endHandler(endHandler));
+		return this;
+	}
+
+	private void run(Runnable action) {
+
+		if (Context.isOnEventLoopThread() && Vertx.currentContext() == context) {
+			action.run();
+		} else {
+			context.runOnContext(v -> action.run());
+		}
+	}
+}
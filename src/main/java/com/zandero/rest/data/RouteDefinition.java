@@ -10,7 +10,9 @@ import com.zandero.utils.ArrayUtils;
 import com.zandero.utils.Assert;
 import com.zandero.utils.StringUtils;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.web.RoutingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,6 +108,51 @@ public class RouteDefinition {
      */
     protected boolean blockingOrdered;
 
+    /**
+     * Execution on worker pool explicitly requested with @Blocking
+     */
+    protected boolean blocking;
+
+    /**
+     * Execute directly on event loop (not on worker pool), null if not defined
+     */
+    protected Boolean nonBlocking;
+
+    /**
+     * True if @NonBlocking is given on method itself (not inherited from class)
+     */
+    protected boolean methodNonBlocking;
+
+    /**
+     * Execute blocking on virtual thread, null if not defined (global setting applies)
+     */
+    protected Boolean virtualThread;
+
+    /**
+     * ETag definition, null if no ETag should be produced
+     */
+    protected ETag eTag;
+
+    /**
+     * Response cache definition, null if response should not be cached
+     */
+    protected Cached cached;
+
+    /**
+     * Coalescing definition, null if identical concurrent requests should not be coalesced
+     */
+    protected Coalesce coalesce;
+
+    /**
+     * Concurrency limit definition, null if number of concurrent requests is not limited
+     */
+    protected MaxConcurrency maxConcurrency;
+
+    /**
+     * Time limit definition, null if not given
+     */
+    protected Timeout timeout;
+
     /**
      * Type of return value ...
      */
@@ -144,6 +191,14 @@ public class RouteDefinition {
         writer = base.getWriter();
         contextProvider = base.getContextProvider();
 
+        nonBlocking = base.nonBlocking;
+        virtualThread = base.virtualThread;
+        eTag = base.eTag;
+        cached = base.cached;
+        coalesce = base.coalesce;
+        maxConcurrency = base.maxConcurrency;
+        timeout = base.timeout;
+
         // set root privileges
         permitAll = base.getPermitAll();
         roles = base.roles;
@@ -157,6 +212,13 @@ public class RouteDefinition {
         // complement / override with additional annotations
         init(classMethod.getAnnotations());
 
+        // method level @Blocking overrides class level @NonBlocking, both can't be given on the same method
+        methodNonBlocking = classMethod.isAnnotationPresent(NonBlocking.class);
+        if (blocking) {
+            Assert.isTrue(!(methodNonBlocking && Boolean.TRUE.equals(nonBlocking)), "@Blocking can't be combined with @NonBlocking!");
+            nonBlocking = false;
+        }
+
         List<MethodParameter> pathParams = PathConverter.extract(path);
         params = join(params, pathParams);
 
@@ -228,6 +290,39 @@ public class RouteDefinition {
             blockingOrdered = additional.blockingOrdered;
         }
 
+        if (!blocking && additional.blocking && !methodNonBlocking) { // inherited method @Blocking overrides class level @NonBlocking
+            blocking = true;
+            nonBlocking = false;
+        }
+
+        if (nonBlocking == null) {
+            nonBlocking = additional.nonBlocking;
+        }
+
+        if (virtualThread == null) {
+            virtualThread = additional.virtualThread;
+        }
+
+        if (eTag == null) {
+            eTag = additional.eTag;
+        }
+
+        if (cached == null) {
+            cached = additional.cached;
+        }
+
+        if (coalesce == null) {
+            coalesce = additional.coalesce;
+        }
+
+        if (maxConcurrency == null) {
+            maxConcurrency = additional.maxConcurrency;
+        }
+
+        if (timeout == null) {
+            timeout = additional.timeout;
+        }
+
         exceptionHandlers = ArrayUtils.join(exceptionHandlers, additional.exceptionHandlers);
         consumes = join(consumes, additional.consumes);
         produces = join(produces, additional.produces);
@@ -442,9 +537,38 @@ public class RouteDefinition {
             }
 
             if (annotation instanceof Blocking) {
+                blocking = true;
                 blockingOrdered = ((Blocking) annotation).value();
             }
 
+            if (annotation instanceof NonBlocking) {
+                nonBlocking = ((NonBlocking) annotation).value();
+            }
+
+            if (annotation instanceof VirtualThread) {
+                virtualThread = ((VirtualThread) annotation).value();
+            }
+
+            if (annotation instanceof ETag) {
+                eTag = (ETag) annotation;
+            }
+
+            if (annotation instanceof Cached) {
+                cached = (Cached) annotation;
+            }
+
+            if (annotation instanceof Coalesce) {
+                coalesce = (Coalesce) annotation;
+            }
+
+            if (annotation instanceof MaxConcurrency) {
+                maxConcurrency = (MaxConcurrency) annotation;
+            }
+
+            if (annotation instanceof Timeout) {
+                timeout = (Timeout) annotation;
+            }
+
             if (annotation instanceof Event) {
                 Event event = (Event) annotation;
                 addEvent(event);
@@ -669,6 +793,13 @@ public class RouteDefinition {
 
                     name = parameters[index].getName();
                     type = ParameterType.unknown;
+
+                    if (ReadStream.class.equals(parameterTypes[index])) { // streamed body is provided as chunks of bytes only
+                        Type generic = method.getGenericParameterTypes()[index];
+                        Assert.isTrue(generic instanceof ParameterizedType &&
+                                      Buffer.class.equals(((ParameterizedType) generic).getActualTypeArguments()[0]),
+                                      "Request body can only be streamed as ReadStream<Buffer>, but: " + generic.getTypeName() + " given for: " + name + "!");
+                    }
                 }
             }
 
@@ -904,6 +1035,15 @@ public class RouteDefinition {
         return params.values().stream().filter(param -> ParameterType.body.equals(param.getType())).findFirst().orElse(null);
     }
 
+    /**
+     * @return true if body is consumed by REST method as {@link ReadStream} and must not be buffered
+     */
+    public boolean streamsBody() {
+
+        MethodParameter body = getBodyParameter();
+        return body != null && ReadStream.class.equals(body.getDataType());
+    }
+
     public boolean hasCookies() {
 
         if (params == null) {
@@ -992,6 +1132,80 @@ public class RouteDefinition {
         return blockingOrdered;
     }
 
+    /**
+     * Applies to non async REST only
+     *
+     * @return true to execute directly on event loop, false to execute on worker pool (default false)
+     */
+    public boolean executeNonBlocking() {
+        return Boolean.TRUE.equals(nonBlocking) && !async && !isSuspendable;
+    }
+
+    /**
+     * @return true if execution on worker pool is requested with @Blocking
+     */
+    public boolean executeBlocking() {
+        return blocking;
+    }
+
+    /**
+     * Applies to blocking REST only
+     *
+     * @return true to execute on virtual thread, false to execute on worker pool, null if not defined
+     */
+    public Boolean executeOnVirtualThread() {
+        return virtualThread;
+    }
+
+    /**
+     * @return true if ETag should be produced for response (GET and HEAD requests only)
+     */
+    public boolean hasETag() {
+        return eTag != null && (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method));
+    }
+
+    /**
+     * @return true if weak ETag should be produced
+     */
+    public boolean isWeakETag() {
+        return eTag != null && eTag.weak();
+    }
+
+    /**
+     * @return provider of resource version key or null if ETag is computed from response bytes
+     */
+    public Class<? extends ContextProvider> getETagVersion() {
+        return eTag == null || ContextProvider.class.equals(eTag.version()) ? null : eTag.version();
+    }
+
+    /**
+     * @return response cache definition or null if response should not be cached (GET requests only)
+     */
+    public Cached getCached() {
+        return HttpMethod.GET.equals(method) ? cached : null;
+    }
+
+    /**
+     * @return coalescing definition or null if identical concurrent requests should not be coalesced (GET requests only)
+     */
+    public Coalesce getCoalesce() {
+        return HttpMethod.GET.equals(method) ? coalesce : null;
+    }
+
+    /**
+     * @return concurrency limit definition or null if number of concurrent requests is not limited
+     */
+    public MaxConcurrency getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return time limit definition or null if not given (global time limit applies)
+     */
+    public Timeout getTimeout() {
+        return timeout;
+    }
+
     /**
      * @return List of mapped events to be executed or null if none provided
      */
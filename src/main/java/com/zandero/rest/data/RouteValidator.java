@@ -0,0 +1,66 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+
+import javax.validation.Validator;
+import java.lang.reflect.Method;
+
+/**
+ * Resolves validation of a single REST method against the validator in use when request is handled
+ * Created once when route is registered, constraints are looked up once per validator (and again once validator is changed)
+ */
+public class RouteValidator {
+
+	private final Object toInvoke;
+
+	private final Method method;
+
+	private final RouteDefinition definition;
+
+	/**
+	 * method validation bound to last used validator
+	 */
+	private volatile Binding binding;
+
+	public RouteValidator(Object toInvoke, Method method, RouteDefinition definition) {
+
+		Assert.notNull(toInvoke, "Missing REST API instance!");
+		Assert.notNull(method, "Missing REST method!");
+
+		this.toInvoke = toInvoke;
+		this.method = method;
+		this.definition = definition;
+	}
+
+	/**
+	 * @param validator current validator or null if not validating
+	 * @return method validator or null if no validator is given or method has no constraints
+	 */
+	public MethodValidator get(Validator validator) {
+
+		if (validator == null) {
+			return null;
+		}
+
+		Binding current = binding;
+		if (current == null || current.validator != validator) { // first request or validator changed
+			current = new Binding(validator, MethodValidator.create(validator, toInvoke, method, definition));
+			binding = current;
+		}
+
+		return current.validation;
+	}
+
+	private static final class Binding {
+
+		private final Validator validator;
+
+		private final MethodValidator validation;
+
+		private Binding(Validator validator, MethodValidator validation) {
+
+			this.validator = validator;
+			this.validation = validation;
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.injection.InjectionProvider;
+import io.vertx.ext.web.RoutingContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Provides request body as {@link io.vertx.core.streams.ReadStream} of buffers, body is not read into memory
+ */
+final class StreamArgumentExtractor extends ArgumentExtractor {
+
+	StreamArgumentExtractor(RouteDefinition definition, Method method, int index) {
+
+		super(definition, method, index);
+	}
+
+	@Override
+	public Object extract(RoutingContext context, InjectionProvider provider) {
+
+		return RequestBodyStream.get(context);
+	}
+}
@@ -0,0 +1,180 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.injection.InjectionProvider;
+import com.zandero.rest.reader.BufferValueReader;
+import com.zandero.rest.reader.ReaderFactory;
+import com.zandero.rest.reader.ValueReader;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Cookie;
+import io.vertx.ext.web.RoutingContext;
+
+import javax.ws.rs.core.MediaType;
+import java.lang.reflect.Method;
+
+/**
+ * Extracts request value (path, query, cookie, form, matrix, header or body) and converts it with associated value reader
+ */
+final class ValueArgumentExtractor extends ArgumentExtractor {
+
+	private final MethodParameter parameter;
+
+	private final ReaderFactory readers;
+
+	private final ParameterType type;
+
+	private final String name;
+
+	private final Class<?> dataType;
+
+	private final String defaultValue;
+
+	private final MediaType[] consumes;
+
+	private final boolean pathIsRegEx;
+
+	private final boolean hasMatrixParams;
+
+	private volatile CachedInstance<ValueReader> cached;
+
+	ValueArgumentExtractor(RouteDefinition definition,
+	                       Method method,
+	                       MethodParameter parameter,
+	                       ReaderFactory readers) {
+
+		super(definition, method, parameter.getIndex());
+
+		this.parameter = parameter;
+		this.readers = readers;
+
+		type = parameter.getType();
+		name = parameter.getName();
+		dataType = parameter.getDataType() != null ? parameter.getDataType() : argumentType;
+		defaultValue = parameter.getDefaultValue();
+
+		consumes = parameter.isBody() ? definition.getConsumes() : null;
+		pathIsRegEx = definition.pathIsRegEx();
+		hasMatrixParams = definition.hasMatrixParams();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Object extract(RoutingContext context, InjectionProvider provider) throws Throwable {
+
+		if (ParameterType.body.equals(type)) {
+
+			ValueReader reader = getReader(provider, context);
+			if (reader instanceof BufferValueReader && isUtf(context)) {
+
+				Buffer body = context.getBody();
+				if (body != null && body.length() > 0) { // read bytes directly
+					try {
+						return ((BufferValueReader) reader).read(body, dataType);
+					}
+					catch (Throwable e) {
+						throw getError(e, String.class);
+					}
+				}
+			}
+		}
+
+		String value = getValue(context);
+		if (value == null) {
+			value = defaultValue;
+		}
+
+		try {
+			ValueReader reader = getReader(provider, context);
+			return reader.read(value, dataType);
+		}
+		catch (Throwable e) {
+			throw getError(e, value);
+		}
+	}
+
+	private String getValue(RoutingContext context) {
+
+		switch (type) {
+			case path:
+
+				String path;
+				if (pathIsRegEx) { // RegEx is special, params values are given by index
+					path = ArgumentProvider.getParam(context.mountPoint(), context.request(), parameter.getPathIndex());
+				} else {
+					path = context.request().getParam(name);
+				}
+
+				// if @MatrixParams are present ... those need to be removed
+				if (hasMatrixParams) {
+					path = ArgumentProvider.removeMatrixFromPath(path);
+				}
+				return path;
+
+			case query:
+				return ArgumentProvider.getQueryParam(context.request(), name, parameter.isRaw());
+
+			case cookie:
+				Cookie cookie = context.getCookie(name);
+				return cookie == null ? null : cookie.getValue();
+
+			case form:
+				return context.request().getFormAttribute(name);
+
+			case matrix:
+				return ArgumentProvider.getMatrixParam(context.request(), name);
+
+			case header:
+				return context.request().getHeader(name);
+
+			case body:
+				return context.getBodyAsString();
+
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * @param context routing context
+	 * @return true if body is UTF encoded (or charset is not given), false if body must be decoded as String
+	 */
+	private static boolean isUtf(RoutingContext context) {
+
+		String contentType = context.request().getHeader(HttpHeaders.CONTENT_TYPE);
+		if (contentType == null) {
+			return true;
+		}
+
+		int index = contentType.toLowerCase().indexOf("charset=");
+		if (index < 0) {
+			return true;
+		}
+
+		String charset = contentType.substring(index + "charset=".length()).trim().replace("\"", "");
+		return charset.toLowerCase().startsWith("utf");
+	}
+
+	private ValueReader getReader(InjectionProvider provider, RoutingContext context) {
+
+		int version = readers.getVersion();
+
+		CachedInstance<ValueReader> current = cached;
+		if (current != null && current.isValid(version, provider)) {
+			return current.get();
+		}
+
+		// get associated reader set in parameter
+		ValueReader reader;
+		if (consumes != null) {
+			reader = readers.get(parameter, parameter.getReader(), provider, context, consumes);
+		} else {
+			reader = readers.get(parameter, parameter.getReader(), provider, context);
+		}
+
+		if (ClassFactory.isCacheable(reader)) {
+			cached = new CachedInstance<>(reader, version, provider);
+		}
+
+		return reader;
+	}
+}
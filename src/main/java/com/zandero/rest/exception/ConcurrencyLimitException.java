@@ -0,0 +1,34 @@
+package com.zandero.rest.exception;
+
+import com.zandero.rest.data.RouteDefinition;
+
+/**
+ * Request rejected as concurrency limit of route was reached (503 Service Unavailable)
+ */
+public class ConcurrencyLimitException extends ExecuteException {
+
+	private final RouteDefinition definition;
+
+	private final int retryAfter;
+
+	public ConcurrencyLimitException(RouteDefinition definition, int retryAfter) {
+
+		// produced by framework ... stack trace carries no information and is not filled in
+		super(503, "Concurrency limit reached: " + (definition == null ? "" : definition.toString().trim()), false);
+		this.definition = definition;
+		this.retryAfter = retryAfter;
+	}
+
+	public RouteDefinition getDefinition() {
+
+		return definition;
+	}
+
+	/**
+	 * @return seconds client should wait before retrying
+	 */
+	public int getRetryAfter() {
+
+		return retryAfter;
+	}
+}
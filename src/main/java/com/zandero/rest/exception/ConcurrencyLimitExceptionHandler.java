@@ -0,0 +1,18 @@
+package com.zandero.rest.exception;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Rejects request with 503 Service Unavailable and Retry-After header
+ */
+public class ConcurrencyLimitExceptionHandler implements ExceptionHandler<ConcurrencyLimitException> {
+
+	@Override
+	public void write(ConcurrencyLimitException result, HttpServerRequest request, HttpServerResponse response) {
+
+		response.setStatusCode(503);
+		response.putHeader("Retry-After", Integer.toString(result.getRetryAfter()));
+		response.end(result.getMessage());
+	}
+}
@@ -29,6 +29,14 @@ public class ConstraintException extends ConstraintViolationException {
 		return definition;
 	}
 
+	/**
+	 * Produced by framework on validation failure ... stack trace carries no information and is not filled in
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
 	/**
 	 * Tries to produce some sensible message to make some informed decision
 	 *
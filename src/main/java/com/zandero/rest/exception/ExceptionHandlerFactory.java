@@ -10,8 +10,11 @@ import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.WebApplicationException;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -20,6 +23,17 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 
 	private final static Logger log = LoggerFactory.getLogger(ExceptionHandlerFactory.class);
 
+	/**
+	 * Max number of resolved handlers kept, cache starts over once reached
+	 */
+	public static final int MAX_RESOLVED = 1024;
+
+	/**
+	 * route exception handlers and exception type / resolved handler type
+	 * invalidated once registrations change (factory version)
+	 */
+	private final Map<Key, Resolved> resolved = new ConcurrentHashMap<>();
+
 	// NOTE
 	// classType list holds list of exception handlers and order how they are considered
 	// cache holds handler instances once initialized
@@ -28,6 +42,8 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 	{
 		defaultHandlers = new LinkedHashMap<>();
 		defaultHandlers.put(ConstraintException.class, ConstraintExceptionHandler.class);
+		defaultHandlers.put(ConcurrencyLimitException.class, ConcurrencyLimitExceptionHandler.class);
+		defaultHandlers.put(RequestTimeoutException.class, RequestTimeoutExceptionHandler.class);
 		defaultHandlers.put(WebApplicationException.class, WebApplicationExceptionHandler.class);
 		defaultHandlers.put(Throwable.class, GenericExceptionHandler.class);
 	}
@@ -37,7 +53,7 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 
 		// register handlers from specific to general ...
 		// when searching we go over handlers ... first match is returned
-		classTypes = new LinkedHashMap<>();
+		classTypes.clear();
 	}
 
 	public ExceptionHandler getExceptionHandler(Class<? extends Throwable> aClass,
@@ -45,6 +61,39 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 	                                            InjectionProvider provider,
 	                                            RoutingContext context) throws ClassFactoryException, ContextException {
 
+		// create class instance
+		return super.getClassInstance(resolve(aClass, definitionExHandlers), provider, context);
+	}
+
+	/**
+	 * Resolves handler type once per route handlers and exception type
+	 *
+	 * @param aClass               exception type
+	 * @param definitionExHandlers exception handlers of route (if any)
+	 * @return exception handler type
+	 */
+	Class<? extends ExceptionHandler> resolve(Class<? extends Throwable> aClass, Class<? extends ExceptionHandler>[] definitionExHandlers) {
+
+		Key key = new Key(aClass, definitionExHandlers);
+		int version = getVersion();
+
+		Resolved entry = resolved.get(key);
+		if (entry != null && entry.version == version) {
+			return entry.handler;
+		}
+
+		Class<? extends ExceptionHandler> found = find(aClass, definitionExHandlers);
+
+		if (resolved.size() >= MAX_RESOLVED) { // bounded ... start over
+			resolved.clear();
+		}
+
+		resolved.put(key, new Resolved(found, version));
+		return found;
+	}
+
+	private Class<? extends ExceptionHandler> find(Class<? extends Throwable> aClass, Class<? extends ExceptionHandler>[] definitionExHandlers) {
+
 		// trickle down ... from definition to default handler
 		Class<? extends ExceptionHandler> found = null;
 
@@ -56,7 +105,7 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 				Type type = getGenericType(handler);
 				if (checkIfCompatibleTypes(aClass, type)) {
 					found = handler;
-					log.info("Found matching exception handler: " + found.getName());
+					log.debug("Found matching exception handler: {}", found.getName());
 					break;
 				}
 			}
@@ -67,7 +116,7 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 			found = super.get(aClass);
 
 			if (found != null) {
-				log.info("Found matching class type exception handler: " + found.getName());
+				log.debug("Found matching class type exception handler: {}", found.getName());
 			}
 		}
 
@@ -78,11 +127,10 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 			if (found == null) {
 				found = GenericExceptionHandler.class;
 			}
-			log.info("Resolving to generic exception handler: " + found.getName());
+			log.debug("Resolving to generic exception handler: {}", found.getName());
 		}
 
-		// create class instance
-		return super.getClassInstance(found, provider, context);
+		return found;
 	}
 
 	@SafeVarargs
@@ -99,6 +147,8 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 
 			classTypes.put((Class)type, handler);
 		}
+
+		changed();
 	}
 
 	public final void register(ExceptionHandler... handlers) {
@@ -121,6 +171,8 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 			// cache instance by handler class type
 			super.register(handler);
 		}
+
+		changed();
 	}
 
 	private void checkIfAlreadyRegistered(Class clazz) {
@@ -131,4 +183,58 @@ public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
 			throw new IllegalArgumentException("Exception handler for: " + clazz.getName() + " already registered with: " + found.getName());
 		}
 	}
+
+	private static final class Key {
+
+		private final Class<?> type;
+
+		private final Class<?>[] handlers;
+
+		private final int hash;
+
+		Key(Class<?> type, Class<?>[] handlers) {
+
+			this.type = type;
+			this.handlers = handlers;
+
+			hash = 31 * Objects.hashCode(type) + Arrays.hashCode(handlers);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Key other = (Key) o;
+			return type == other.type && Arrays.equals(handlers, other.handlers);
+		}
+
+		@Override
+		public int hashCode() {
+
+			return hash;
+		}
+	}
+
+	private static final class Resolved {
+
+		private final Class<? extends ExceptionHandler> handler;
+
+		/**
+		 * factory version handler was resolved with
+		 */
+		private final int version;
+
+		Resolved(Class<? extends ExceptionHandler> handler, int version) {
+
+			this.handler = handler;
+			this.version = version;
+		}
+	}
 }
@@ -28,6 +28,17 @@ public class ExecuteException extends Exception {
 		statusCode = status;
 	}
 
+	/**
+	 * @param status     HTTP status code
+	 * @param message    response message
+	 * @param stackTrace false to skip stack trace (for statuses produced by framework itself, where it carries no information)
+	 */
+	public ExecuteException(int status, String message, boolean stackTrace) {
+
+		super(message, null, false, stackTrace);
+		statusCode = status;
+	}
+
 	public int getStatusCode() {
 
 		return statusCode;
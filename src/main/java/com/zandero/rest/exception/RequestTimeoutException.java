@@ -0,0 +1,34 @@
+package com.zandero.rest.exception;
+
+import com.zandero.rest.data.RouteDefinition;
+
+/**
+ * REST execution exceeded time limit (503 Service Unavailable)
+ */
+public class RequestTimeoutException extends ExecuteException {
+
+	private final RouteDefinition definition;
+
+	private final long timeout;
+
+	public RequestTimeoutException(RouteDefinition definition, long timeout) {
+
+		// produced by framework ... stack trace carries no information and is not filled in
+		super(503, "Time limit of " + timeout + "ms exceeded: " + (definition == null ? "" : definition.toString().trim()), false);
+		this.definition = definition;
+		this.timeout = timeout;
+	}
+
+	public RouteDefinition getDefinition() {
+
+		return definition;
+	}
+
+	/**
+	 * @return time limit in milliseconds
+	 */
+	public long getTimeout() {
+
+		return timeout;
+	}
+}
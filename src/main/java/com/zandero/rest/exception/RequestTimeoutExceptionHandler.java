@@ -0,0 +1,17 @@
+package com.zandero.rest.exception;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Answers timed out request with 503 Service Unavailable
+ */
+public class RequestTimeoutExceptionHandler implements ExceptionHandler<RequestTimeoutException> {
+
+	@Override
+	public void write(RequestTimeoutException result, HttpServerRequest request, HttpServerResponse response) {
+
+		response.setStatusCode(503);
+		response.end(result.getMessage());
+	}
+}
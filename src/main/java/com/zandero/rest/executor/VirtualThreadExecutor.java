@@ -0,0 +1,61 @@
+package com.zandero.rest.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides virtual thread per task executor if runtime supports it (JDK 21+)
+ * Executor is looked up through reflection, so library can still be used with Java 8
+ */
+public final class VirtualThreadExecutor {
+
+	private final static Logger log = LoggerFactory.getLogger(VirtualThreadExecutor.class);
+
+	private VirtualThreadExecutor() {
+		// hide constructor
+	}
+
+	/**
+	 * Lazy initialization of executor on first use
+	 */
+	private static class Holder {
+
+		private static final ExecutorService executor = create();
+	}
+
+	private static ExecutorService create() {
+
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		}
+		catch (NoSuchMethodException e) {
+			log.debug("Virtual threads are not supported by runtime: " + System.getProperty("java.version"));
+		}
+		catch (Throwable e) {
+			log.warn("Failed to create virtual thread executor: " + e.getMessage(), e);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return true if virtual threads are supported, false otherwise
+	 */
+	public static boolean isSupported() {
+
+		return Holder.executor != null;
+	}
+
+	/**
+	 * @return virtual thread per task executor or null if not supported
+	 */
+	public static ExecutorService get() {
+
+		return Holder.executor;
+	}
+}
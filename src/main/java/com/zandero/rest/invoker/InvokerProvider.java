@@ -0,0 +1,16 @@
+package com.zandero.rest.invoker;
+
+import java.lang.reflect.Method;
+
+/**
+ * Binds REST methods to invokers, called once per route when route is registered
+ */
+public interface InvokerProvider {
+
+	/**
+	 * @param toInvoke REST API instance
+	 * @param method   REST method to be bound
+	 * @return invoker for given method
+	 */
+	MethodInvoker bind(Object toInvoke, Method method);
+}
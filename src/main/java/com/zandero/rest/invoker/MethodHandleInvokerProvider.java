@@ -0,0 +1,78 @@
+package com.zandero.rest.invoker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Default invoker provider, binds REST method into a method handle once when route is registered.
+ * Methods with up to four arguments are invoked directly, without spreading arguments from array.
+ */
+public class MethodHandleInvokerProvider implements InvokerProvider {
+
+	private final static Logger log = LoggerFactory.getLogger(MethodHandleInvokerProvider.class);
+
+	private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+	/**
+	 * fallback in case method can't be bound into a method handle
+	 */
+	private final ReflectionInvokerProvider reflection = new ReflectionInvokerProvider();
+
+	@Override
+	public MethodInvoker bind(Object toInvoke, Method method) {
+
+		MethodHandle handle;
+		try {
+			handle = getHandle(toInvoke, method);
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			log.debug("Failed to bind method handle for: " + method + ", falling back to reflection!", e);
+			return reflection.bind(toInvoke, method);
+		}
+
+		int count = method.getParameterCount();
+
+		// arguments and result are (un)boxed by handle, void methods return null
+		MethodHandle generic = handle.asType(MethodType.genericMethodType(count));
+
+		switch (count) {
+			case 0:
+				return arguments -> (Object) generic.invokeExact();
+
+			case 1:
+				return arguments -> (Object) generic.invokeExact(arguments[0]);
+
+			case 2:
+				return arguments -> (Object) generic.invokeExact(arguments[0], arguments[1]);
+
+			case 3:
+				return arguments -> (Object) generic.invokeExact(arguments[0], arguments[1], arguments[2]);
+
+			case 4:
+				return arguments -> (Object) generic.invokeExact(arguments[0], arguments[1], arguments[2], arguments[3]);
+
+			default:
+				MethodHandle spreader = generic.asSpreader(Object[].class, count);
+				return arguments -> (Object) spreader.invokeExact(arguments);
+		}
+	}
+
+	private static MethodHandle getHandle(Object toInvoke, Method method) throws IllegalAccessException {
+
+		method.setAccessible(true);
+
+		MethodHandle handle = lookup.unreflect(method).asFixedArity();
+
+		if (Modifier.isStatic(method.getModifiers())) {
+			return handle;
+		}
+
+		return handle.bindTo(toInvoke);
+	}
+}
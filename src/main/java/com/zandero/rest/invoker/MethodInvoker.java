@@ -0,0 +1,15 @@
+package com.zandero.rest.invoker;
+
+/**
+ * REST method bound to REST API instance, invoked once arguments have been extracted from request
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+	/**
+	 * @param arguments method arguments (null if method has no arguments)
+	 * @return method result, null in case of void methods
+	 * @throws Throwable any exception thrown by method (not wrapped)
+	 */
+	Object invoke(Object[] arguments) throws Throwable;
+}
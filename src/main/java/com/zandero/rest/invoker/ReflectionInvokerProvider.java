@@ -0,0 +1,24 @@
+package com.zandero.rest.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes REST methods through core reflection
+ */
+public class ReflectionInvokerProvider implements InvokerProvider {
+
+	@Override
+	public MethodInvoker bind(Object toInvoke, Method method) {
+
+		return arguments -> {
+			try {
+				return method.invoke(toInvoke, arguments);
+			}
+			catch (InvocationTargetException e) {
+				// unwrap ... exception thrown by method
+				throw e.getCause() != null ? e.getCause() : e;
+			}
+		};
+	}
+}
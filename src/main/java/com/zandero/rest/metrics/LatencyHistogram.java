@@ -0,0 +1,144 @@
+package com.zandero.rest.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free, fixed size histogram of latencies in nanoseconds (HDR style log-linear buckets)
+ *
+ * Each power of two range is split into 16 linear sub buckets, so recorded values are kept with ~6% precision
+ * from 1ns up to 2^40ns (~18 minutes), larger values are recorded as max value.
+ * Recording is a few atomic increments and doesn't allocate.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private static final int MAX_BITS = 40;
+
+	/**
+	 * Max recorded value in nanoseconds
+	 */
+	public static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+
+	private static final int BUCKETS = (MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder sum = new LongAdder();
+
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * @param nanos latency to record
+	 */
+	public void record(long nanos) {
+
+		long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+
+		buckets.incrementAndGet(index(value));
+		count.increment();
+		sum.add(value);
+
+		long current;
+		while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+			// retry
+		}
+	}
+
+	static int index(long value) {
+
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * @return highest value recorded into bucket
+	 */
+	static long highestValue(int index) {
+
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKETS - 1;
+		long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	/**
+	 * @return number of recorded values
+	 */
+	public long getCount() {
+
+		return count.sum();
+	}
+
+	/**
+	 * @return max recorded value in nanoseconds
+	 */
+	public long getMax() {
+
+		return max.get();
+	}
+
+	/**
+	 * @return mean of recorded values in nanoseconds
+	 */
+	public double getMean() {
+
+		long total = count.sum();
+		return total == 0 ? 0 : (double) sum.sum() / total;
+	}
+
+	/**
+	 * @param percentile 0 - 100, for instance 99.9
+	 * @return value in nanoseconds at or below which given percentile of values was recorded (within bucket precision)
+	 */
+	public long getPercentile(double percentile) {
+
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+			counts[index] = buckets.get(index);
+			total = total + counts[index];
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+
+		long cumulative = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+
+			cumulative = cumulative + counts[index];
+			if (cumulative >= target) {
+				return Math.min(highestValue(index), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * @param nanos value to convert
+	 * @return milliseconds
+	 */
+	static double toMillis(double nanos) {
+
+		return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,81 @@
+package com.zandero.rest.metrics;
+
+import com.zandero.rest.data.RouteDefinition;
+import io.vertx.core.json.JsonArray;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics of all registered routes
+ */
+public class MetricsRegistry {
+
+	/**
+	 * route (method and path) / metrics
+	 */
+	private final Map<String, RouteMetrics> metrics = new ConcurrentHashMap<>();
+
+	/**
+	 * Provides metrics for given route (existing metrics are kept if route is registered again)
+	 *
+	 * @param definition route definition
+	 * @return metrics of route
+	 */
+	public RouteMetrics register(RouteDefinition definition) {
+
+		String name = definition.getMethod() + " " + definition.getRoutePath();
+		return metrics.computeIfAbsent(name, RouteMetrics::new);
+	}
+
+	/**
+	 * @param name of route as method and route path, for instance: "GET /items/:id"
+	 * @return metrics of route or null if not collected
+	 */
+	public RouteMetrics get(String name) {
+
+		return metrics.get(name);
+	}
+
+	/**
+	 * @return metrics of all routes ordered by route name
+	 */
+	public List<RouteMetrics> getAll() {
+
+		List<RouteMetrics> list = new ArrayList<>(metrics.values());
+		list.sort(Comparator.comparing(RouteMetrics::getName));
+		return list;
+	}
+
+	/**
+	 * Removes all metrics
+	 */
+	public void clear() {
+
+		metrics.clear();
+	}
+
+	/**
+	 * @return metrics of all routes as JSON array
+	 */
+	public JsonArray toJson() {
+
+		JsonArray output = new JsonArray();
+		getAll().forEach(route -> output.add(route.toJson()));
+		return output;
+	}
+
+	/**
+	 * @return metrics of all routes as text, one line per route (followed by indented lines of timed phases)
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder builder = new StringBuilder();
+		getAll().forEach(route -> builder.append(route).append('\n'));
+		return builder.toString();
+	}
+}
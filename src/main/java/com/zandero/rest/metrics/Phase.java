@@ -0,0 +1,59 @@
+package com.zandero.rest.metrics;
+
+/**
+ * Request lifecycle phases timed by {@link RequestTiming}, name of phase is used as Server-Timing metric name
+ */
+public enum Phase {
+
+	/**
+	 * Wait for worker (or virtual) thread to execute blocking REST
+	 */
+	queue("Worker queue wait"),
+
+	/**
+	 * Extraction of REST method arguments from request
+	 */
+	arguments("Argument extraction"),
+
+	/**
+	 * Validation of REST method arguments
+	 */
+	validate("Argument validation"),
+
+	/**
+	 * REST method execution
+	 */
+	invoke("REST invocation"),
+
+	/**
+	 * Validation of REST method result
+	 */
+	validateResult("Result validation"),
+
+	/**
+	 * Resolution of response writer
+	 */
+	writer("Writer resolution"),
+
+	/**
+	 * Response writing
+	 */
+	write("Response write"),
+
+	/**
+	 * Triggering of REST events
+	 */
+	events("Event triggering");
+
+	private final String description;
+
+	Phase(String value) {
+
+		description = value;
+	}
+
+	public String getDescription() {
+
+		return description;
+	}
+}
@@ -0,0 +1,126 @@
+package com.zandero.rest.metrics;
+
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.Locale;
+
+/**
+ * Durations of lifecycle phases of a single (sampled) request
+ *
+ * Phases are executed one after another (on event loop or worker thread), so no synchronization is needed.
+ * Requests not sampled have no timing, and static helpers do nothing for them.
+ */
+public final class RequestTiming {
+
+	/**
+	 * Routing context key of request timing
+	 */
+	private static final String CONTEXT_KEY = "RestRouter-RequestTiming";
+
+	/**
+	 * Response header with phase durations (if enabled)
+	 */
+	public static final String SERVER_TIMING = "Server-Timing";
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private final long[] durations = new long[PHASES.length];
+
+	/**
+	 * bit mask of timed phases
+	 */
+	private int timed;
+
+	/**
+	 * @param context current request
+	 * @return new timing of request stored in context
+	 */
+	public static RequestTiming start(RoutingContext context) {
+
+		RequestTiming timing = new RequestTiming();
+		context.put(CONTEXT_KEY, timing);
+		return timing;
+	}
+
+	/**
+	 * @param context current request
+	 * @return timing of request or null if request is not sampled
+	 */
+	public static RequestTiming get(RoutingContext context) {
+
+		return context.get(CONTEXT_KEY);
+	}
+
+	/**
+	 * @param timing of request or null if request is not sampled
+	 * @return start time of phase or 0 if request is not sampled
+	 */
+	public static long mark(RequestTiming timing) {
+
+		return timing != null ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Adds time elapsed from start to phase duration
+	 *
+	 * @param timing of request or null if request is not sampled
+	 * @param phase  timed phase
+	 * @param start  time of phase as returned by {@link #mark(RequestTiming)}
+	 */
+	public static void record(RequestTiming timing, Phase phase, long start) {
+
+		if (timing != null) {
+			timing.add(phase, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * @param phase timed phase
+	 * @param nanos duration to be added to phase
+	 */
+	public void add(Phase phase, long nanos) {
+
+		durations[phase.ordinal()] += nanos;
+		timed |= 1 << phase.ordinal();
+	}
+
+	/**
+	 * @param phase timed phase
+	 * @return true if phase was executed
+	 */
+	public boolean isTimed(Phase phase) {
+
+		return (timed & (1 << phase.ordinal())) != 0;
+	}
+
+	/**
+	 * @param phase timed phase
+	 * @return duration of phase in nanoseconds, 0 if not executed
+	 */
+	public long getDuration(Phase phase) {
+
+		return durations[phase.ordinal()];
+	}
+
+	/**
+	 * @return Server-Timing header value of timed phases, for instance: "arguments;dur=0.021, invoke;dur=1.204"
+	 */
+	public String toServerTiming() {
+
+		StringBuilder header = new StringBuilder();
+		for (Phase phase : PHASES) {
+
+			if (isTimed(phase)) {
+				if (header.length() > 0) {
+					header.append(", ");
+				}
+
+				header.append(phase.name())
+				      .append(";dur=")
+				      .append(String.format(Locale.ROOT, "%.3f", LatencyHistogram.toMillis(getDuration(phase))));
+			}
+		}
+
+		return header.toString();
+	}
+}
@@ -0,0 +1,211 @@
+package com.zandero.rest.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request count, count per status class and latency of a single route
+ */
+public class RouteMetrics {
+
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+	private final String name;
+
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	/**
+	 * 0 - connection closed before response was sent, 1 - 1xx, 2 - 2xx ... 5 - 5xx
+	 */
+	private final LongAdder[] statuses = new LongAdder[6];
+
+	/**
+	 * latency of lifecycle phases of sampled requests, created once first request is sampled
+	 */
+	private volatile LatencyHistogram[] phases;
+
+	/**
+	 * @param name of route
+	 */
+	public RouteMetrics(String name) {
+
+		this.name = name;
+		for (int index = 0; index < statuses.length; index++) {
+			statuses[index] = new LongAdder();
+		}
+	}
+
+	/**
+	 * @param status response status code, 0 if connection was closed before response was sent
+	 * @param nanos  request latency
+	 */
+	public void record(int status, long nanos) {
+
+		int statusClass = status / 100;
+		statuses[statusClass > 0 && statusClass < statuses.length ? statusClass : 0].increment();
+		latency.record(nanos);
+	}
+
+	/**
+	 * @param timing phase durations of sampled request
+	 */
+	public void record(RequestTiming timing) {
+
+		LatencyHistogram[] histograms = getPhases();
+		for (Phase phase : Phase.values()) {
+			if (timing.isTimed(phase)) {
+				histograms[phase.ordinal()].record(timing.getDuration(phase));
+			}
+		}
+	}
+
+	private LatencyHistogram[] getPhases() {
+
+		LatencyHistogram[] histograms = phases;
+		if (histograms == null) {
+			synchronized (this) {
+				if (phases == null) {
+					LatencyHistogram[] created = new LatencyHistogram[Phase.values().length];
+					for (int index = 0; index < created.length; index++) {
+						created[index] = new LatencyHistogram();
+					}
+					phases = created;
+				}
+				histograms = phases;
+			}
+		}
+
+		return histograms;
+	}
+
+	/**
+	 * @return name of route
+	 */
+	public String getName() {
+
+		return name;
+	}
+
+	/**
+	 * @return number of requests
+	 */
+	public long getRequests() {
+
+		return latency.getCount();
+	}
+
+	/**
+	 * @param statusClass 1 - 5 (1xx - 5xx), 0 for requests closed before response was sent
+	 * @return number of requests with given status class
+	 */
+	public long getStatusCount(int statusClass) {
+
+		return statusClass >= 0 && statusClass < statuses.length ? statuses[statusClass].sum() : 0;
+	}
+
+	/**
+	 * @return latency histogram
+	 */
+	public LatencyHistogram getLatency() {
+
+		return latency;
+	}
+
+	/**
+	 * @param phase lifecycle phase
+	 * @return latency of phase in sampled requests or null if no request was sampled
+	 */
+	public LatencyHistogram getPhase(Phase phase) {
+
+		LatencyHistogram[] histograms = phases;
+		return histograms != null ? histograms[phase.ordinal()] : null;
+	}
+
+	/**
+	 * @return metrics as JSON, latencies in milliseconds
+	 */
+	public JsonObject toJson() {
+
+		JsonObject status = new JsonObject();
+		for (int index = 1; index < statuses.length; index++) {
+			status.put(index + "xx", getStatusCount(index));
+		}
+		status.put("closed", getStatusCount(0));
+
+		JsonObject output = new JsonObject().put("route", name)
+		                                    .put("requests", getRequests())
+		                                    .put("status", status)
+		                                    .put("latency", toJson(latency));
+
+		if (phases != null) {
+			JsonObject timed = new JsonObject();
+			for (Phase phase : Phase.values()) {
+				LatencyHistogram histogram = getPhase(phase);
+				if (histogram.getCount() > 0) {
+					timed.put(phase.name(), toJson(histogram).put("samples", histogram.getCount()));
+				}
+			}
+			output.put("phases", timed);
+		}
+
+		return output;
+	}
+
+	private static JsonObject toJson(LatencyHistogram histogram) {
+
+		JsonObject times = new JsonObject().put("mean", LatencyHistogram.toMillis(histogram.getMean()));
+		for (double percentile : PERCENTILES) {
+			times.put(percentileName(percentile), LatencyHistogram.toMillis(histogram.getPercentile(percentile)));
+		}
+
+		return times.put("max", LatencyHistogram.toMillis(histogram.getMax()));
+	}
+
+	/**
+	 * @return metrics as single line of text followed by indented line per timed phase (if sampled), latencies in milliseconds
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder builder = new StringBuilder(name).append(" requests=").append(getRequests());
+		for (int index = 1; index < statuses.length; index++) {
+			builder.append(' ').append(index).append("xx=").append(getStatusCount(index));
+		}
+		builder.append(" closed=").append(getStatusCount(0));
+		append(builder, latency);
+
+		if (phases != null) {
+			for (Phase phase : Phase.values()) {
+				LatencyHistogram histogram = getPhase(phase);
+				if (histogram.getCount() > 0) {
+					builder.append("\n  ").append(phase.name()).append(" samples=").append(histogram.getCount());
+					append(builder, histogram);
+				}
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private static void append(StringBuilder builder, LatencyHistogram histogram) {
+
+		builder.append(" mean=").append(format(histogram.getMean()));
+		for (double percentile : PERCENTILES) {
+			builder.append(' ').append(percentileName(percentile)).append('=').append(format(histogram.getPercentile(percentile)));
+		}
+
+		builder.append(" max=").append(format(histogram.getMax()));
+	}
+
+	private static String percentileName(double percentile) {
+
+		return "p" + (percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile).replace(".", ""));
+	}
+
+	private static String format(double nanos) {
+
+		return String.format(Locale.ROOT, "%.3fms", LatencyHistogram.toMillis(nanos));
+	}
+}
@@ -0,0 +1,20 @@
+package com.zandero.rest.reader;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Request body reader converting raw request body bytes to given object type,
+ * without decoding the body into a String first
+ *
+ * Applies to request body only, other values (query, path, header ...) are read as String
+ */
+public interface BufferValueReader<T> extends ValueReader<T> {
+
+	/**
+	 * @param body request body (UTF encoded), never empty
+	 * @param type to convert body to
+	 * @return converted body
+	 * @throws Throwable in case body could not be converted
+	 */
+	T read(Buffer body, Class<T> type) throws Throwable;
+}
@@ -1,12 +1,30 @@
 package com.zandero.rest.reader;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.zandero.utils.StringUtils;
-import com.zandero.utils.extra.JsonUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Converts request body to JSON
+ * Request body is parsed directly from body bytes with a per type cached object reader
  */
-public class JsonValueReader<T> implements ValueReader<T> {
+public class JsonValueReader<T> implements BufferValueReader<T> {
+
+	/**
+	 * Object readers per value type, resolved with Json.mapper
+	 */
+	private static final Map<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+	private static volatile ObjectMapper objectReadersMapper;
 
 	@Override
 	public T read(String value, Class<T> type) {
@@ -15,6 +33,66 @@ public class JsonValueReader<T> implements ValueReader<T> {
 			return null;
 		}
 
-		return JsonUtils.fromJson(value, type, io.vertx.core.json.Json.mapper);
+		try {
+			return getObjectReader(type).readValue(value);
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Given JSON could not be deserialized. Error: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public T read(Buffer body, Class<T> type) {
+
+		if (isEmpty(body)) {
+			return null;
+		}
+
+		ByteBuf bytes = body.getByteBuf();
+		try {
+			ObjectReader reader = getObjectReader(type);
+			if (bytes.hasArray()) { // read directly from backing array
+				return reader.readValue(bytes.array(), bytes.arrayOffset() + bytes.readerIndex(), bytes.readableBytes());
+			}
+
+			return reader.readValue((InputStream) new ByteBufInputStream(bytes));
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Given JSON could not be deserialized. Error: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @param body to check
+	 * @return true if body is null, empty or holds white space only
+	 */
+	private static boolean isEmpty(Buffer body) {
+
+		if (body == null) {
+			return true;
+		}
+
+		for (int index = 0; index < body.length(); index++) {
+			if (!Character.isWhitespace(body.getByte(index))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param type of value
+	 * @return cached object reader for given type
+	 */
+	static ObjectReader getObjectReader(Class<?> type) {
+
+		ObjectMapper mapper = Json.mapper;
+		if (mapper != objectReadersMapper) { // mapper was replaced ... start over
+			objectReaders.clear();
+			objectReadersMapper = mapper;
+		}
+
+		return objectReaders.computeIfAbsent(type, mapper::readerFor);
 	}
 }
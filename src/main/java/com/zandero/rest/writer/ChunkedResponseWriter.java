@@ -0,0 +1,395 @@
+package com.zandero.rest.writer;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes {@link Stream}, {@link Iterator}, {@link Iterable} or {@link ReadStream} results element by element as chunked response
+ * Elements are never collected in memory, writing is paused while response write queue is full
+ *
+ * Iterated elements are pulled and serialized in batches on worker pool (iterators can block, i.e. database cursors),
+ * {@link ReadStream} elements are written as they arrive (event bus {@link MessageConsumer} is written as stream of message bodies).
+ * Response is ended by writer once all elements are written
+ */
+public abstract class ChunkedResponseWriter implements HttpResponseWriter<Object> {
+
+	private final static Logger log = LoggerFactory.getLogger(ChunkedResponseWriter.class);
+
+	/**
+	 * Default max number of elements pulled and written at once
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	/**
+	 * Default max size of single written chunk (64kB)
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+	private final int batchSize;
+
+	private final int chunkSize;
+
+	protected ChunkedResponseWriter() {
+
+		this(DEFAULT_BATCH_SIZE, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param batchSize max number of elements pulled and written at once
+	 * @param chunkSize max size of chunk, once reached chunk is written out even if batch is not complete
+	 */
+	protected ChunkedResponseWriter(int batchSize, int chunkSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be > 0!");
+		Assert.isTrue(chunkSize > 0, "Chunk size must be > 0!");
+
+		this.batchSize = batchSize;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * @return content written before first element (if any)
+	 */
+	protected Buffer begin() {
+
+		return null;
+	}
+
+	/**
+	 * Serializes single element
+	 *
+	 * @param output  to append serialized element to
+	 * @param element to be serialized
+	 * @param index   of element 0..N-1
+	 * @throws Exception in case element could not be serialized
+	 */
+	protected abstract void append(Buffer output, Object element, long index) throws Exception;
+
+	/**
+	 * @return content written after last element (if any)
+	 */
+	protected Buffer finish() {
+
+		return null;
+	}
+
+	@Override
+	public void write(Object result, HttpServerRequest request, HttpServerResponse response) {
+
+		if (result == null) {
+			response.end();
+			return;
+		}
+
+		if (!response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+			response.setChunked(true);
+		}
+
+		if (result instanceof ReadStream) {
+			new StreamPump((ReadStream<?>) result, response).start();
+			return;
+		}
+
+		Iterator<?> iterator;
+		AutoCloseable closeable = null;
+
+		if (result instanceof Stream) {
+			iterator = ((Stream<?>) result).iterator();
+			closeable = (Stream<?>) result;
+		} else if (result instanceof Iterator) {
+			iterator = (Iterator<?>) result;
+		} else if (result instanceof Iterable) {
+			iterator = ((Iterable<?>) result).iterator();
+		} else {
+			throw new IllegalArgumentException("Expected Stream, Iterator, Iterable or ReadStream, but got: " + result.getClass().getName());
+		}
+
+		new IteratorPump(iterator, closeable, response).start();
+	}
+
+	/**
+	 * @param result to be written
+	 * @return true if result can be written by chunked writer (element by element)
+	 */
+	public static boolean isStreamed(Object result) {
+
+		return result instanceof ReadStream || result instanceof Stream || result instanceof Iterator || result instanceof Iterable;
+	}
+
+	/**
+	 * @param type of result
+	 * @return true if result of given type can be written by chunked writer (element by element)
+	 */
+	public static boolean isStreamed(Class<?> type) {
+
+		return type != null &&
+		       (ReadStream.class.isAssignableFrom(type) || Stream.class.isAssignableFrom(type) ||
+		        Iterator.class.isAssignableFrom(type) || Iterable.class.isAssignableFrom(type));
+	}
+
+	/**
+	 * Aborts response in case writing failed (status and part of content was already sent)
+	 */
+	private static void fail(HttpServerResponse response, Throwable e) {
+
+		log.error("Failed to write chunked response: ", e);
+		if (!response.closed() && !response.ended()) {
+			response.close();
+		}
+	}
+
+	private static void write(HttpServerResponse response, Buffer buffer) {
+
+		if (buffer != null && buffer.length() > 0) {
+			response.write(buffer);
+		}
+	}
+
+	private static void close(AutoCloseable closeable) {
+
+		if (closeable != null) {
+			try {
+				closeable.close();
+			}
+			catch (Exception e) {
+				log.warn("Failed to close streamed result: ", e);
+			}
+		}
+	}
+
+	/**
+	 * Pulls elements on worker pool in batches, writes each batch on context once response can take it
+	 */
+	private final class IteratorPump {
+
+		private final Iterator<?> iterator;
+
+		private final AutoCloseable closeable;
+
+		private final HttpServerResponse response;
+
+		private final Context context;
+
+		private long index;
+
+		private boolean finished;
+
+		private volatile boolean closed;
+
+		IteratorPump(Iterator<?> iterator, AutoCloseable closeable, HttpServerResponse response) {
+
+			this.iterator = iterator;
+			this.closeable = closeable;
+			this.response = response;
+
+			context = Vertx.currentContext();
+		}
+
+		void start() {
+
+			response.closeHandler(v -> closed = true);
+			write(response, begin());
+
+			if (context == null) { // not running in vert.x ... write out all at once
+				try {
+					while (!finished) {
+						write(response, read());
+					}
+					end();
+				}
+				catch (Throwable e) {
+					close(closeable);
+					fail(response, e);
+				}
+				return;
+			}
+
+			next();
+		}
+
+		private void next() {
+
+			context.<Buffer>executeBlocking(fut -> {
+				try {
+					fut.complete(read());
+				}
+				catch (Throwable e) {
+					fut.fail(e);
+				}
+			}, true, res -> {
+
+				if (res.failed()) {
+					close(closeable);
+					fail(response, res.cause());
+					return;
+				}
+
+				if (closed) { // client is gone ... stop pulling
+					close(closeable);
+					return;
+				}
+
+				write(response, res.result());
+
+				if (finished) {
+					end();
+				} else if (response.writeQueueFull()) {
+					response.drainHandler(v -> {
+						response.drainHandler(null);
+						next();
+					});
+				} else {
+					next();
+				}
+			});
+		}
+
+		private Buffer read() throws Exception {
+
+			Buffer output = Buffer.buffer();
+
+			int count = 0;
+			while (count < batchSize && output.length() < chunkSize && !closed && iterator.hasNext()) {
+				append(output, iterator.next(), index++);
+				count++;
+			}
+
+			finished = closed || !iterator.hasNext();
+			return output;
+		}
+
+		private void end() {
+
+			close(closeable);
+
+			if (!closed && !response.ended()) {
+				Buffer end = finish();
+				if (end != null) {
+					response.end(end);
+				} else {
+					response.end();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes elements as they arrive, elements arriving within the same event loop turn are batched into a single write.
+	 * Pauses stream while response write queue is full
+	 */
+	private final class StreamPump {
+
+		private final ReadStream<?> stream;
+
+		private final HttpServerResponse response;
+
+		private final Context context;
+
+		private long index;
+
+		private Buffer pending;
+
+		private boolean flushScheduled;
+
+		StreamPump(ReadStream<?> stream, HttpServerResponse response) {
+
+			this.stream = stream;
+			this.response = response;
+
+			context = Vertx.currentContext();
+		}
+
+		void start() {
+
+			response.closeHandler(v -> stop());
+			write(response, begin());
+
+			stream.exceptionHandler(e -> {
+				stop();
+				fail(response, e);
+			});
+
+			stream.endHandler(v -> {
+
+				flush();
+				if (!response.closed() && !response.ended()) {
+					Buffer end = finish();
+					if (end != null) {
+						response.end(end);
+					} else {
+						response.end();
+					}
+				}
+			});
+
+			stream.handler(element -> {
+
+				if (pending == null) {
+					pending = Buffer.buffer();
+				}
+
+				try {
+					// event bus consumer ... write out message body
+					append(pending, element instanceof Message ? ((Message<?>) element).body() : element, index++);
+				}
+				catch (Throwable e) {
+					stop();
+					fail(response, e);
+					return;
+				}
+
+				if (context == null || pending.length() >= chunkSize) {
+					flush();
+				} else if (!flushScheduled) { // write out once all currently available elements are collected
+					flushScheduled = true;
+					context.runOnContext(x -> {
+						flushScheduled = false;
+						flush();
+					});
+				}
+			});
+		}
+
+		private void flush() {
+
+			Buffer output = pending;
+			pending = null;
+
+			if (output == null || response.closed() || response.ended()) {
+				return;
+			}
+
+			write(response, output);
+
+			if (response.writeQueueFull()) {
+				stream.pause();
+				response.drainHandler(v -> {
+					response.drainHandler(null);
+					stream.resume();
+				});
+			}
+		}
+
+		private void stop() {
+
+			stream.pause();
+
+			if (stream instanceof MessageConsumer) { // no more messages are consumed once response is gone
+				((MessageConsumer<?>) stream).unregister();
+			}
+		}
+	}
+}
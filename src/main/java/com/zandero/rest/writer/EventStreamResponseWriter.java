@@ -0,0 +1,55 @@
+package com.zandero.rest.writer;
+
+import com.zandero.rest.annotation.Header;
+import io.vertx.core.buffer.Buffer;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes streamed result as server-sent events, one event per element
+ * String elements are sent as given, other elements are sent as JSON
+ */
+@Produces(MediaType.SERVER_SENT_EVENTS)
+@Header("Cache-Control: no-cache")
+public class EventStreamResponseWriter extends ChunkedResponseWriter {
+
+	private static final byte[] DATA = "data: ".getBytes(StandardCharsets.UTF_8);
+
+	public EventStreamResponseWriter() {
+
+		super();
+	}
+
+	/**
+	 * @param batchSize max number of elements pulled and written at once
+	 * @param chunkSize max size of chunk, once reached chunk is written out even if batch is not complete
+	 */
+	protected EventStreamResponseWriter(int batchSize, int chunkSize) {
+
+		super(batchSize, chunkSize);
+	}
+
+	@Override
+	protected void append(Buffer output, Object element, long index) throws Exception {
+
+		if (element instanceof String || element instanceof Buffer) {
+
+			// multi line data must be sent as multiple data lines
+			for (String line : element.toString().split("\r\n|\r|\n", -1)) {
+				output.appendBytes(DATA).appendString(line).appendByte((byte) '\n');
+			}
+		} else {
+			output.appendBytes(DATA);
+			if (element == null) {
+				output.appendString("null");
+			} else {
+				output.appendBytes(JsonResponseWriter.getObjectWriter(element.getClass()).writeValueAsBytes(element));
+			}
+			output.appendByte((byte) '\n');
+		}
+
+		output.appendByte((byte) '\n'); // end of event
+	}
+}
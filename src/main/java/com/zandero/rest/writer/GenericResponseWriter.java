@@ -39,6 +39,11 @@ public class GenericResponseWriter<T> implements HttpResponseWriter<T> {
 			writer = null;
 		}
 
+		// chunked writers (event stream, NDJSON) can only write streamed results
+		if (writer instanceof ChunkedResponseWriter && !ChunkedResponseWriter.isStreamed(result)) {
+			writer = null;
+		}
+
 		if (writer != null && !(writer instanceof GenericResponseWriter)) {
 			writer.write(result, request, response);
 		}
@@ -1,24 +1,103 @@
 package com.zandero.rest.writer;
 
-import com.zandero.utils.extra.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Converts result into JSON object if not null
+ * Result is serialized directly into response buffer, large results (over chunk size) are written out in chunks
  */
 public class JsonResponseWriter<T> implements HttpResponseWriter<T> {
 
 	// TODO: add custom mapper ... to override vertx.mapper if desired
 
+	/**
+	 * Default max size of response before it is written out in chunks (1MB)
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+	/**
+	 * Object writers per result type, resolved with Json.mapper ... replaced as a whole once mapper is replaced
+	 */
+	private static final AtomicReference<ObjectWriters> objectWriters = new AtomicReference<>(new ObjectWriters(Json.mapper));
+
+	private final int chunkSize;
+
+	public JsonResponseWriter() {
+
+		this(DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param chunkSize max size of response before it is written out in chunks
+	 */
+	protected JsonResponseWriter(int chunkSize) {
+
+		this.chunkSize = chunkSize;
+	}
+
 	@Override
 	public void write(T result, HttpServerRequest request, HttpServerResponse response) {
 
 		if (result != null) {
-			response.end(JsonUtils.toJson(result, io.vertx.core.json.Json.mapper));
+
+			ResponseOutputStream output = new ResponseOutputStream(response, chunkSize);
+			try {
+				getObjectWriter(result.getClass()).writeValue(output, result);
+			}
+			catch (IOException e) {
+				throw new IllegalArgumentException("Given Object could not be serialized to JSON. Error: " + e.getMessage());
+			}
+
+			output.end();
 		}
 		else {
 			response.end();
 		}
 	}
+
+	/**
+	 * @param type of result
+	 * @return cached object writer for given type
+	 */
+	static ObjectWriter getObjectWriter(Class<?> type) {
+
+		ObjectMapper mapper = Json.mapper;
+
+		ObjectWriters current = objectWriters.get();
+		if (current.mapper != mapper) { // mapper was replaced ... start over
+			ObjectWriters replaced = new ObjectWriters(mapper);
+			current = objectWriters.compareAndSet(current, replaced) ? replaced : objectWriters.get();
+		}
+
+		return current.get(type);
+	}
+
+	/**
+	 * Object writers resolved with a single mapper
+	 */
+	private static final class ObjectWriters {
+
+		private final ObjectMapper mapper;
+
+		private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+		private ObjectWriters(ObjectMapper mapper) {
+
+			this.mapper = mapper;
+		}
+
+		private ObjectWriter get(Class<?> type) {
+
+			return writers.computeIfAbsent(type, mapper::writerFor);
+		}
+	}
 }
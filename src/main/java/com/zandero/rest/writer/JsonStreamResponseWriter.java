@@ -0,0 +1,57 @@
+package com.zandero.rest.writer;
+
+import io.vertx.core.buffer.Buffer;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Writes streamed result as JSON array, element by element
+ */
+@Produces(MediaType.APPLICATION_JSON)
+public class JsonStreamResponseWriter extends ChunkedResponseWriter {
+
+	private static final Buffer BEGIN = Buffer.buffer("[");
+
+	private static final Buffer FINISH = Buffer.buffer("]");
+
+	public JsonStreamResponseWriter() {
+
+		super();
+	}
+
+	/**
+	 * @param batchSize max number of elements pulled and written at once
+	 * @param chunkSize max size of chunk, once reached chunk is written out even if batch is not complete
+	 */
+	protected JsonStreamResponseWriter(int batchSize, int chunkSize) {
+
+		super(batchSize, chunkSize);
+	}
+
+	@Override
+	protected Buffer begin() {
+
+		return BEGIN.copy();
+	}
+
+	@Override
+	protected void append(Buffer output, Object element, long index) throws Exception {
+
+		if (index > 0) {
+			output.appendByte((byte) ',');
+		}
+
+		if (element == null) {
+			output.appendString("null");
+		} else {
+			output.appendBytes(JsonResponseWriter.getObjectWriter(element.getClass()).writeValueAsBytes(element));
+		}
+	}
+
+	@Override
+	protected Buffer finish() {
+
+		return FINISH.copy();
+	}
+}
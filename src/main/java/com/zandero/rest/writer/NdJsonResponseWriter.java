@@ -0,0 +1,40 @@
+package com.zandero.rest.writer;
+
+import io.vertx.core.buffer.Buffer;
+
+import javax.ws.rs.Produces;
+
+/**
+ * Writes streamed result as newline delimited JSON (one JSON per line), element by element
+ */
+@Produces(NdJsonResponseWriter.APPLICATION_NDJSON)
+public class NdJsonResponseWriter extends ChunkedResponseWriter {
+
+	public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+	public NdJsonResponseWriter() {
+
+		super();
+	}
+
+	/**
+	 * @param batchSize max number of elements pulled and written at once
+	 * @param chunkSize max size of chunk, once reached chunk is written out even if batch is not complete
+	 */
+	protected NdJsonResponseWriter(int batchSize, int chunkSize) {
+
+		super(batchSize, chunkSize);
+	}
+
+	@Override
+	protected void append(Buffer output, Object element, long index) throws Exception {
+
+		if (element == null) {
+			output.appendString("null");
+		} else {
+			output.appendBytes(JsonResponseWriter.getObjectWriter(element.getClass()).writeValueAsBytes(element));
+		}
+
+		output.appendByte((byte) '\n');
+	}
+}
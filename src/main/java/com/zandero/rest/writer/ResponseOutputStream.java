@@ -0,0 +1,91 @@
+package com.zandero.rest.writer;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.io.OutputStream;
+
+/**
+ * Collects written bytes directly into a vert.x buffer (no intermediate String)
+ * Once buffered content exceeds given chunk size response is switched to chunked transfer and buffer is written out
+ * Writers are invoked on the event loop, so serialization can't wait for the client: while response write queue is full
+ * content is kept in buffer (in the worst case the whole response is buffered before it is written out)
+ * Closing the stream has no effect, call end() to finish the response
+ */
+public class ResponseOutputStream extends OutputStream {
+
+	private static final int INITIAL_SIZE = 1024;
+
+	private final HttpServerResponse response;
+
+	private final int chunkSize;
+
+	private Buffer buffer;
+
+	/**
+	 * @param response  to write to
+	 * @param chunkSize max size of buffered content before it is written out as chunk
+	 */
+	public ResponseOutputStream(HttpServerResponse response, int chunkSize) {
+
+		Assert.notNull(response, "Missing response!");
+		Assert.isTrue(chunkSize > 0, "Chunk size must be > 0!");
+
+		this.response = response;
+		this.chunkSize = chunkSize;
+
+		buffer = Buffer.buffer(Math.min(INITIAL_SIZE, chunkSize));
+	}
+
+	@Override
+	public void write(int b) {
+
+		buffer.appendByte((byte) b);
+		checkChunk();
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) {
+
+		buffer.appendBytes(bytes, offset, length);
+		checkChunk();
+	}
+
+	private void checkChunk() {
+
+		if (buffer.length() < chunkSize) {
+			return;
+		}
+
+		if (!response.isChunked() && !response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+			response.setChunked(true);
+		}
+
+		if (response.writeQueueFull()) { // keep buffering until client catches up
+			return;
+		}
+
+		response.write(buffer);
+		buffer = Buffer.buffer(INITIAL_SIZE);
+	}
+
+	/**
+	 * @return true if content was (partially) written out as chunk
+	 */
+	public boolean isChunked() {
+
+		return response.isChunked();
+	}
+
+	/**
+	 * Ends response with remaining buffered content
+	 */
+	public void end() {
+
+		if (!response.ended()) {
+			response.end(buffer);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.zandero.rest.writer;
+
+import com.zandero.rest.data.ClassFactory;
+import com.zandero.rest.exception.ClassFactoryException;
+import com.zandero.rest.exception.ContextException;
+import com.zandero.rest.injection.InjectionProvider;
+import com.zandero.utils.Assert;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per route cache of content negotiation results: response type and accepted media type to resolved response writer
+ * Writers utilizing @Context (or annotated with @NoCache) are not cached, but provided for each request from resolved writer type
+ * Cached entries are invalidated once writer factory registrations or injection provider change
+ */
+public class WriterCache {
+
+	public static final int DEFAULT_SIZE = 64;
+
+	private final WriterFactory writers;
+
+	private final int size;
+
+	private final Map<Key, Entry> cache;
+
+	public WriterCache(WriterFactory writers) {
+
+		this(writers, DEFAULT_SIZE);
+	}
+
+	public WriterCache(WriterFactory writers, int size) {
+
+		Assert.notNull(writers, "Missing writer factory!");
+		Assert.isTrue(size > 0, "Cache size must be > 0!");
+
+		this.writers = writers;
+		this.size = size;
+
+		cache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * @param type     of response
+	 * @param accept   accepted content type (as negotiated by vert.x)
+	 * @param injector current injection provider
+	 * @param context  routing context
+	 * @return writer or null if not resolved yet
+	 * @throws ClassFactoryException in case writer could not be provided
+	 * @throws ContextException      in case writer @Context could not be provided
+	 */
+	public HttpResponseWriter get(Class<?> type, String accept, InjectionProvider injector, RoutingContext context) throws ClassFactoryException,
+	                                                                                                                   ContextException {
+
+		Entry entry = cache.get(new Key(type, accept));
+		if (entry == null || !entry.isValid(writers.getVersion(), injector)) {
+			return null;
+		}
+
+		if (entry.writer != null) {
+			return entry.writer;
+		}
+
+		return writers.getClassInstance(entry.writerClass, injector, context);
+	}
+
+	/**
+	 * Stores resolved writer
+	 *
+	 * @param type     of response
+	 * @param accept   accepted content type
+	 * @param injector injection provider writer was resolved with
+	 * @param version  writer factory version writer was resolved with
+	 * @param writer   resolved writer
+	 */
+	@SuppressWarnings("unchecked")
+	public void put(Class<?> type, String accept, InjectionProvider injector, int version, HttpResponseWriter writer) {
+
+		if (writer == null) {
+			return;
+		}
+
+		if (cache.size() >= size) { // bounded ... start over (should not happen with regular routes)
+			cache.clear();
+		}
+
+		Entry entry;
+		if (ClassFactory.isCacheable(writer)) {
+			entry = new Entry(writer, null, version, injector);
+		} else {
+			entry = new Entry(null, (Class<? extends HttpResponseWriter>) writer.getClass(), version, injector);
+		}
+
+		cache.put(new Key(type, accept), entry);
+	}
+
+	/**
+	 * @return number of cached entries
+	 */
+	public int size() {
+
+		return cache.size();
+	}
+
+	private static final class Key {
+
+		private final Class<?> type;
+
+		private final String accept;
+
+		private final int hash;
+
+		Key(Class<?> type, String accept) {
+
+			this.type = type;
+			this.accept = accept;
+
+			hash = 31 * Objects.hashCode(type) + Objects.hashCode(accept);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Key other = (Key) o;
+			return type == other.type && Objects.equals(accept, other.accept);
+		}
+
+		@Override
+		public int hashCode() {
+
+			return hash;
+		}
+	}
+
+	private static final class Entry {
+
+		/**
+		 * writer instance (if reusable)
+		 */
+		private final HttpResponseWriter writer;
+
+		/**
+		 * writer type to be provided on every request
+		 */
+		private final Class<? extends HttpResponseWriter> writerClass;
+
+		/**
+		 * writer factory version and injection provider writer was resolved with
+		 */
+		private final int version;
+
+		private final InjectionProvider provider;
+
+		Entry(HttpResponseWriter writer, Class<? extends HttpResponseWriter> writerClass, int version, InjectionProvider provider) {
+
+			this.writer = writer;
+			this.writerClass = writerClass;
+			this.version = version;
+			this.provider = provider;
+		}
+
+		boolean isValid(int currentVersion, InjectionProvider currentProvider) {
+
+			return version == currentVersion && provider == currentProvider;
+		}
+	}
+}
@@ -8,6 +8,7 @@ import com.zandero.rest.exception.ContextException;
 import com.zandero.rest.injection.InjectionProvider;
 import com.zandero.utils.Assert;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.web.RoutingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +16,8 @@ import org.slf4j.LoggerFactory;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Provides definition and caching of response writer implementations
@@ -35,8 +38,15 @@ public class WriterFactory extends ClassFactory<HttpResponseWriter> {
 		classTypes.put(Response.class, JaxResponseWriter.class);
 		classTypes.put(HttpServerResponse.class, VertxResponseWriter.class);
 
+		// streamed results are written out element by element
+		classTypes.put(Stream.class, JsonStreamResponseWriter.class);
+		classTypes.put(Iterator.class, JsonStreamResponseWriter.class);
+		classTypes.put(ReadStream.class, JsonStreamResponseWriter.class);
+
 		mediaTypes.put(MediaType.APPLICATION_JSON, JsonResponseWriter.class);
 		mediaTypes.put(MediaType.TEXT_PLAIN, GenericResponseWriter.class);
+		mediaTypes.put(MediaType.SERVER_SENT_EVENTS, EventStreamResponseWriter.class);
+		mediaTypes.put(NdJsonResponseWriter.APPLICATION_NDJSON, NdJsonResponseWriter.class);
 	}
 
 	/**
@@ -57,12 +67,18 @@ public class WriterFactory extends ClassFactory<HttpResponseWriter> {
 
 		try {
 			HttpResponseWriter writer = null;
-			if (accept != null) {
-				writer = get(returnType, definition.getWriter(), provider, routeContext, new MediaType[]{accept});
+
+			// streamed result ... format is given by media type (JSON array, NDJSON, event stream ...)
+			if (definition.getWriter() == null) {
+				writer = getChunkedWriter(returnType, provider, routeContext, accept, definition.getProduces());
+			}
+
+			if (writer == null && accept != null) {
+				writer = notChunked(get(returnType, definition.getWriter(), provider, routeContext, new MediaType[]{accept}), returnType, definition);
 			}
 
 			if (writer == null) {
-				writer = get(returnType, definition.getWriter(), provider, routeContext, definition.getProduces());
+				writer = notChunked(get(returnType, definition.getWriter(), provider, routeContext, definition.getProduces()), returnType, definition);
 			}
 
 			return writer != null ? writer : new GenericResponseWriter();
@@ -79,6 +95,60 @@ public class WriterFactory extends ClassFactory<HttpResponseWriter> {
 		}
 	}
 
+	/**
+	 * Chunked writers are bound to streamed result types, but other chunked writers can be selected by media type
+	 *
+	 * @return chunked writer matching accept header or produces, null if result is not streamed or no matching writer is registered
+	 */
+	private HttpResponseWriter getChunkedWriter(Class returnType,
+	                                            InjectionProvider provider,
+	                                            RoutingContext routeContext,
+	                                            MediaType accept,
+	                                            MediaType[] produces) throws ClassFactoryException, ContextException {
+
+		Class<? extends HttpResponseWriter> byType = get(returnType);
+		if (byType == null || !ChunkedResponseWriter.class.isAssignableFrom(byType)) {
+			return null;
+		}
+
+		Class<? extends HttpResponseWriter> byMediaType = getChunkedWriter(accept);
+		if (byMediaType == null && produces != null) {
+			for (MediaType type : produces) {
+				byMediaType = getChunkedWriter(type);
+				if (byMediaType != null) {
+					break;
+				}
+			}
+		}
+
+		return byMediaType != null ? getClassInstance(byMediaType, provider, routeContext) : null;
+	}
+
+	/**
+	 * Chunked writers registered by media type (event stream, NDJSON) can only write streamed results,
+	 * other results are written as before (unless chunked writer is explicitly given by REST)
+	 *
+	 * @return writer or null if writer is chunked, result is not streamed and writer was not given by REST
+	 */
+	private static HttpResponseWriter notChunked(HttpResponseWriter writer, Class<?> returnType, RouteDefinition definition) {
+
+		if (writer instanceof ChunkedResponseWriter && definition.getWriter() == null && !ChunkedResponseWriter.isStreamed(returnType)) {
+			return null;
+		}
+
+		return writer;
+	}
+
+	private Class<? extends HttpResponseWriter> getChunkedWriter(MediaType type) {
+
+		if (type == null) {
+			return null;
+		}
+
+		Class<? extends HttpResponseWriter> writer = mediaTypes.get(MediaTypeHelper.getKey(type));
+		return writer != null && ChunkedResponseWriter.class.isAssignableFrom(writer) ? writer : null;
+	}
+
 	public void register(Class<? extends HttpResponseWriter> writer) {
 
 		Assert.notNull(writer, "Missing writer type!");
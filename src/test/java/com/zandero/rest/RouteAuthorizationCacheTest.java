@@ -0,0 +1,138 @@
+package com.zandero.rest;
+
+import com.zandero.rest.cache.AuthorizationCache;
+import com.zandero.rest.test.TestAuthorizationRest;
+import com.zandero.rest.test.data.AsyncSimulatedUser;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteAuthorizationCacheTest extends VertxTest {
+
+	private static RestBuilder builder;
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = Router.router(vertx);
+		router.route().handler(context -> {
+
+			String token = context.request().getHeader("X-Token");
+			if (token != null) {
+				context.setUser(new AsyncSimulatedUser(token));
+			}
+
+			context.next();
+		});
+
+		builder = new RestBuilder(router).register(TestAuthorizationRest.class)
+		                                 .cacheAuthorization(new AuthorizationCache(60_000, 100, user -> user.principal().getString("role")));
+
+		vertx.createHttpServer()
+		     .requestHandler(builder.build())
+		     .listen(PORT);
+	}
+
+	@AfterAll
+	static void reset() {
+
+		RestRouter.cacheAuthorization(null);
+	}
+
+	@BeforeEach
+	void clear() {
+
+		builder.getAuthorizationCache().invalidate();
+	}
+
+	@Test
+	void grantedIsCachedTest() throws Exception {
+
+		int checks = AsyncSimulatedUser.checks.get();
+		AuthorizationCache cache = builder.getAuthorizationCache();
+		long hits = cache.getHits();
+
+		assertEquals(200, get("/private/user", "user").statusCode());
+		assertEquals(200, get("/private/user", "user").statusCode());
+		assertEquals(200, get("/private/user", "user").statusCode());
+
+		assertEquals(checks + 1, AsyncSimulatedUser.checks.get()); // checked only once
+		assertEquals(hits + 2, cache.getHits());
+		assertTrue(cache.getLatency().getCount() >= 1);
+		assertTrue(cache.getSaved() > 0);
+	}
+
+	@Test
+	void deniedIsCachedTest() throws Exception {
+
+		int checks = AsyncSimulatedUser.checks.get();
+
+		assertEquals(401, get("/private/other", "user").statusCode());
+		assertEquals(401, get("/private/other", "user").statusCode());
+
+		assertEquals(checks + 2, AsyncSimulatedUser.checks.get()); // both roles checked once
+	}
+
+	@Test
+	void roleSetTest() throws Exception {
+
+		int checks = AsyncSimulatedUser.checks.get();
+
+		// same user ... different role set is decided separately
+		assertEquals(401, get("/private/admin", "user").statusCode());
+		assertEquals(200, get("/private/user", "user").statusCode());
+		assertEquals(401, get("/private/admin", "user").statusCode());
+
+		assertEquals(checks + 2, AsyncSimulatedUser.checks.get());
+		assertEquals(2, builder.getAuthorizationCache().size());
+	}
+
+	@Test
+	void invalidateTest() throws Exception {
+
+		int checks = AsyncSimulatedUser.checks.get();
+
+		assertEquals(200, get("/private/user", "user").statusCode());
+		assertEquals(200, get("/private/other", "two").statusCode());
+
+		builder.getAuthorizationCache().invalidate(new AsyncSimulatedUser("user"));
+		assertEquals(1, builder.getAuthorizationCache().size());
+
+		assertEquals(200, get("/private/user", "user").statusCode()); // checked again
+		assertEquals(200, get("/private/other", "two").statusCode()); // still cached
+
+		assertEquals(checks + 4, AsyncSimulatedUser.checks.get());
+	}
+
+	private static HttpResponse<String> get(String path, String token) throws Exception {
+
+		CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+
+		client.get(PORT, HOST, path)
+		      .as(BodyCodec.string())
+		      .putHeader("X-Token", token)
+		      .send(result -> {
+			      if (result.succeeded()) {
+				      future.complete(result.result());
+			      } else {
+				      future.completeExceptionally(result.cause());
+			      }
+		      });
+
+		return future.get(10, TimeUnit.SECONDS);
+	}
+}
@@ -1,6 +1,7 @@
 package com.zandero.rest;
 
 import com.zandero.rest.test.TestAuthorizationRest;
+import com.zandero.rest.test.data.AsyncSimulatedUser;
 import com.zandero.rest.test.data.SimulatedUser;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
@@ -48,6 +49,12 @@ class RouteAuthorizationTest extends VertxTest {
                 context.setUser(new SimulatedUser(token));
             }
 
+            // user with asynchronously checked roles
+            String asyncToken = context.request().getHeader("X-Async-Token");
+            if (asyncToken != null) {
+                context.setUser(new AsyncSimulatedUser(asyncToken));
+            }
+
             context.next();
         };
     }
@@ -189,4 +196,47 @@ class RouteAuthorizationTest extends VertxTest {
                     context.completeNow();
                 })));
     }
+
+    @Test
+    void testAsyncAuthorized(VertxTestContext context) {
+
+        // first role is denied, second is granted
+        client.get(PORT, HOST, "/private/other")
+                .as(BodyCodec.string())
+                .putHeader("X-Async-Token", "two")
+                .send(context.succeeding(response -> context.verify(() -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("{\"role\":\"two\"}", response.body());
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    void testAsyncUnauthorized(VertxTestContext context) {
+
+        client.get(PORT, HOST, "/private/other")
+                .as(BodyCodec.string())
+                .putHeader("X-Async-Token", "user")
+                .send(context.succeeding(response -> context.verify(() -> {
+                    assertEquals(401, response.statusCode());
+                    assertEquals("HTTP 401 Unauthorized", response.body());
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    void testAsyncFirstRoleGranted(VertxTestContext context) {
+
+        int checks = AsyncSimulatedUser.checks.get();
+
+        // first role is granted ... second is not checked
+        client.get(PORT, HOST, "/private/other")
+                .as(BodyCodec.string())
+                .putHeader("X-Async-Token", "one")
+                .send(context.succeeding(response -> context.verify(() -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals(checks + 1, AsyncSimulatedUser.checks.get());
+                    context.completeNow();
+                })));
+    }
 }
@@ -0,0 +1,182 @@
+package com.zandero.rest;
+
+import com.zandero.rest.cache.ResponseCache;
+import com.zandero.rest.test.TestCachedRest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteCachedTest extends VertxTest {
+
+	private static RestBuilder builder;
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		builder = new RestBuilder(vertx).register(TestCachedRest.class);
+		Router router = builder.build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@BeforeEach
+	void clear() {
+
+		builder.getResponseCaches().invalidate();
+	}
+
+	@Test
+	void cacheHitTest() throws Exception {
+
+		HttpResponse<String> first = get("/cached/item/1?ignored=a", null);
+		HttpResponse<String> second = get("/cached/item/1?ignored=b", null);
+
+		assertEquals(200, second.statusCode());
+		assertEquals(first.body(), second.body()); // not invoked again
+		assertEquals("yes", second.getHeader("X-Cached"));
+		assertEquals("application/json", second.getHeader("Content-Type"));
+
+		HttpResponse<String> other = get("/cached/item/2", null);
+		assertNotEquals(first.body(), other.body());
+
+		ResponseCache cache = builder.getResponseCaches().get("GET /cached/item/:id");
+		assertNotNull(cache);
+		assertEquals(2, cache.size());
+		assertTrue(cache.getHits() >= 1);
+		assertTrue(cache.getMisses() >= 2);
+	}
+
+	@Test
+	void invalidateTest() throws Exception {
+
+		HttpResponse<String> first = get("/cached/item/3", null);
+		assertEquals(first.body(), get("/cached/item/3", null).body());
+
+		builder.getResponseCaches().invalidate("/cached/item/3");
+
+		HttpResponse<String> fresh = get("/cached/item/3", null);
+		assertNotEquals(first.body(), fresh.body());
+	}
+
+	@Test
+	void evictionTest() throws Exception {
+
+		ResponseCache cache = builder.getResponseCaches().get("GET /cached/query");
+		long evictions = cache.getEvictions();
+
+		HttpResponse<String> one = get("/cached/query?name=one", null);
+		get("/cached/query?name=two", null);
+		get("/cached/query?name=three", null); // evicts least recently used: one
+
+		assertEquals(2, cache.size());
+		assertEquals(evictions + 1, cache.getEvictions());
+		assertNotEquals(one.body(), get("/cached/query?name=one", null).body());
+	}
+
+	@Test
+	void cachedWithETagTest() throws Exception {
+
+		HttpResponse<String> first = get("/cached/tagged", null);
+		String tag = first.getHeader("ETag");
+		assertNotNull(tag);
+
+		HttpResponse<String> notModified = get("/cached/tagged", tag);
+		assertEquals(304, notModified.statusCode());
+
+		HttpResponse<String> cached = get("/cached/tagged", null);
+		assertEquals(first.body(), cached.body());
+		assertEquals(tag, cached.getHeader("ETag"));
+	}
+
+	@Test
+	void errorNotCachedTest() throws Exception {
+
+		int invoked = TestCachedRest.invoked.get();
+
+		assertEquals(400, get("/cached/fail", null).statusCode());
+		assertEquals(400, get("/cached/fail", null).statusCode());
+
+		assertEquals(invoked + 2, TestCachedRest.invoked.get());
+	}
+
+	@Test
+	void authorizedNotCachedTest() throws Exception {
+
+		HttpResponse<String> anonymous = get("/cached/item/7", null);
+		assertEquals(anonymous.body(), get("/cached/item/7", null).body());
+
+		// personal requests are neither served from cache nor cached
+		HttpResponse<String> first = get("/cached/item/7", null, "Bearer one");
+		HttpResponse<String> second = get("/cached/item/7", null, "Bearer two");
+
+		assertNotEquals(anonymous.body(), first.body());
+		assertNotEquals(first.body(), second.body());
+		assertEquals(anonymous.body(), get("/cached/item/7", null).body());
+	}
+
+	@Test
+	void multiValuedHeaderTest() throws Exception {
+
+		HttpResponse<String> first = get("/cached/multi", null);
+		HttpResponse<String> cached = get("/cached/multi", null);
+
+		assertEquals(first.body(), cached.body());
+		assertEquals(Arrays.asList("one", "two"), cached.headers().getAll("X-Multi"));
+	}
+
+	@Test
+	void cookieNotCachedTest() throws Exception {
+
+		HttpResponse<String> first = get("/cached/cookie", null);
+		HttpResponse<String> second = get("/cached/cookie", null);
+
+		assertNotEquals(first.getHeader("Set-Cookie"), second.getHeader("Set-Cookie"));
+		assertNotEquals(first.body(), second.body());
+	}
+
+	private static HttpResponse<String> get(String path, String ifNoneMatch) throws Exception {
+
+		return get(path, ifNoneMatch, null);
+	}
+
+	private static HttpResponse<String> get(String path, String ifNoneMatch, String authorization) throws Exception {
+
+		CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+
+		io.vertx.ext.web.client.HttpRequest<String> request = client.get(PORT, HOST, path).as(BodyCodec.string());
+		if (ifNoneMatch != null) {
+			request.putHeader("If-None-Match", ifNoneMatch);
+		}
+
+		if (authorization != null) {
+			request.putHeader("Authorization", authorization);
+		}
+
+		request.send(result -> {
+			if (result.succeeded()) {
+				future.complete(result.result());
+			} else {
+				future.completeExceptionally(result.cause());
+			}
+		});
+
+		return future.get(10, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,104 @@
+package com.zandero.rest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.zandero.rest.test.TestChunkedRest;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.utils.extra.JsonUtils;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(VertxExtension.class)
+class RouteChunkedResponseTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = RestRouter.register(vertx, TestChunkedRest.class);
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@Test
+	void streamTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/chunked/stream?count=2").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("chunked", response.getHeader("Transfer-Encoding"));
+			      assertEquals("application/json", response.getHeader("Content-Type"));
+			      assertEquals("[{\"name\":\"name0\",\"value\":\"value0\"},{\"name\":\"name1\",\"value\":\"value1\"}]", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void largeStreamTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/chunked/stream?count=100000").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+
+			      List<Dummy> list = JsonUtils.fromJson(response.body(), new TypeReference<List<Dummy>>() {});
+			      assertEquals(100000, list.size());
+			      assertEquals("name99999", list.get(99999).name);
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void iteratorTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/chunked/iterator").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("[1,2,3]", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void emptyIterableTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/chunked/iterable").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("[]", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void readStreamTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/chunked/read?count=50000").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+
+			      String body = response.body();
+			      assertTrue(body.startsWith("[0,1,2,"));
+			      assertTrue(body.endsWith(",49998,49999]"));
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void failedStreamTest(VertxTestContext context) {
+
+		// status was already sent ... connection is closed to signal incomplete response
+		client.get(PORT, HOST, "/chunked/fail").as(BodyCodec.string())
+		      .send(context.failing(error -> context.completeNow()));
+	}
+}
@@ -0,0 +1,149 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestCoalesceRest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@ExtendWith(VertxExtension.class)
+class RouteCoalesceTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = new RestBuilder(vertx).register(TestCoalesceRest.class).build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@Test
+	void coalesceIdenticalRequestsTest() throws Exception {
+
+		int invoked = TestCoalesceRest.invoked.get();
+
+		List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+		for (int index = 0; index < 4; index++) {
+			responses.add(get("/coalesce/item/1?ignored=" + index));
+		}
+
+		String body = null;
+		for (CompletableFuture<HttpResponse<String>> future : responses) {
+
+			HttpResponse<String> response = future.get(10, TimeUnit.SECONDS);
+			assertEquals(200, response.statusCode());
+			assertEquals("yes", response.getHeader("X-Shared"));
+			assertEquals("application/json", response.getHeader("Content-Type"));
+
+			if (body == null) {
+				body = response.body();
+			}
+			assertEquals(body, response.body());
+		}
+
+		assertEquals(invoked + 1, TestCoalesceRest.invoked.get());
+
+		// flight has landed ... invoked again
+		HttpResponse<String> next = get("/coalesce/item/1").get(10, TimeUnit.SECONDS);
+		assertEquals(invoked + 2, TestCoalesceRest.invoked.get());
+		assertEquals("{\"name\":\"1\",\"value\":\"" + (invoked + 2) + "\"}", next.body());
+	}
+
+	@Test
+	void differentRequestsNotCoalescedTest() throws Exception {
+
+		int invoked = TestCoalesceRest.invoked.get();
+
+		CompletableFuture<HttpResponse<String>> one = get("/coalesce/item/one");
+		CompletableFuture<HttpResponse<String>> two = get("/coalesce/item/two");
+
+		assertEquals(200, one.get(10, TimeUnit.SECONDS).statusCode());
+		assertEquals(200, two.get(10, TimeUnit.SECONDS).statusCode());
+		assertEquals(invoked + 2, TestCoalesceRest.invoked.get());
+	}
+
+	@Test
+	void failureNotSharedTest() throws Exception {
+
+		int invoked = TestCoalesceRest.invoked.get();
+
+		CompletableFuture<HttpResponse<String>> first = get("/coalesce/fail");
+		CompletableFuture<HttpResponse<String>> second = get("/coalesce/fail");
+
+		assertEquals(400, first.get(10, TimeUnit.SECONDS).statusCode());
+		assertEquals(400, second.get(10, TimeUnit.SECONDS).statusCode());
+
+		// waiting request is invoked on its own once first failed
+		assertEquals(invoked + 2, TestCoalesceRest.invoked.get());
+	}
+
+	@Test
+	void authorizedNotCoalescedTest() throws Exception {
+
+		int invoked = TestCoalesceRest.invoked.get();
+
+		CompletableFuture<HttpResponse<String>> one = get("/coalesce/item/personal", "Bearer one");
+		CompletableFuture<HttpResponse<String>> two = get("/coalesce/item/personal", "Bearer two");
+
+		assertEquals(200, one.get(10, TimeUnit.SECONDS).statusCode());
+		assertEquals(200, two.get(10, TimeUnit.SECONDS).statusCode());
+		assertNotEquals(one.get().body(), two.get().body());
+		assertEquals(invoked + 2, TestCoalesceRest.invoked.get());
+	}
+
+	@Test
+	void waitingTimeoutTest() throws Exception {
+
+		int invoked = TestCoalesceRest.invoked.get();
+
+		CompletableFuture<HttpResponse<String>> first = get("/coalesce/slow");
+		CompletableFuture<HttpResponse<String>> second = get("/coalesce/slow");
+
+		assertEquals(200, first.get(10, TimeUnit.SECONDS).statusCode());
+		assertEquals(200, second.get(10, TimeUnit.SECONDS).statusCode());
+
+		// second request stopped waiting after 100ms and was invoked on its own
+		assertNotEquals(first.get().body(), second.get().body());
+		assertEquals(invoked + 2, TestCoalesceRest.invoked.get());
+	}
+
+	private static CompletableFuture<HttpResponse<String>> get(String path) {
+
+		return get(path, null);
+	}
+
+	private static CompletableFuture<HttpResponse<String>> get(String path, String authorization) {
+
+		CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+
+		io.vertx.ext.web.client.HttpRequest<String> request = client.get(PORT, HOST, path).as(BodyCodec.string());
+		if (authorization != null) {
+			request.putHeader("Authorization", authorization);
+		}
+
+		request.send(result -> {
+			if (result.succeeded()) {
+				future.complete(result.result());
+			} else {
+				future.completeExceptionally(result.cause());
+			}
+		});
+
+		return future;
+	}
+}
@@ -0,0 +1,167 @@
+package com.zandero.rest;
+
+import com.zandero.rest.concurrency.ConcurrencyLimiter;
+import com.zandero.rest.concurrency.GradientLimit;
+import com.zandero.rest.test.TestConcurrencyRest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteConcurrencyLimitTest extends VertxTest {
+
+	private static RestBuilder builder;
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		builder = new RestBuilder(vertx).register(TestConcurrencyRest.class)
+		                                 .limitWith(definition -> new GradientLimit(definition.getMaxConcurrency().limit(), 2, 8));
+		Router router = builder.build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@AfterAll
+	static void reset() {
+
+		RestRouter.limitWith(null);
+	}
+
+	@Test
+	void rejectOverLimitTest() throws Exception {
+
+		ConcurrencyLimiter limiter = builder.getConcurrencyLimiters().get("GET /limited/reject/:id");
+		assertNotNull(limiter);
+		long rejected = limiter.getRejected();
+
+		CompletableFuture<HttpResponse<String>> first = get("/limited/reject/1");
+		Thread.sleep(100);
+		HttpResponse<String> second = get("/limited/reject/2").get(10, TimeUnit.SECONDS);
+
+		assertEquals(503, second.statusCode());
+		assertEquals("5", second.getHeader("Retry-After"));
+		assertEquals(rejected + 1, limiter.getRejected());
+		assertEquals(1, limiter.getInFlight());
+
+		HttpResponse<String> response = first.get(10, TimeUnit.SECONDS);
+		assertEquals(200, response.statusCode());
+		assertEquals("1", response.body());
+		assertEquals(0, awaitInFlight(limiter));
+
+		// permit was released
+		assertEquals(200, get("/limited/reject/3").get(10, TimeUnit.SECONDS).statusCode());
+	}
+
+	@Test
+	void rejectWithCatchAllHandlerTest() throws Exception {
+
+		CompletableFuture<HttpResponse<String>> first = get("/limited/catch/1");
+		Thread.sleep(100);
+		HttpResponse<String> second = get("/limited/catch/2").get(10, TimeUnit.SECONDS);
+
+		// status and retry hint are kept when rejection is handled by custom handler
+		assertEquals(503, second.statusCode());
+		assertEquals("2", second.getHeader("Retry-After"));
+		assertTrue(second.body().startsWith("Exception: Concurrency limit reached"));
+
+		assertEquals(200, first.get(10, TimeUnit.SECONDS).statusCode());
+	}
+
+	@Test
+	void responseEndHandlerTest() throws Exception {
+
+		ConcurrencyLimiter limiter = builder.getConcurrencyLimiters().get("GET /limited/handler/:id");
+
+		// REST replacing response end handler doesn't keep the permit
+		for (int index = 0; index < 3; index++) {
+			assertEquals(200, get("/limited/handler/" + index).get(10, TimeUnit.SECONDS).statusCode());
+			assertEquals(0, awaitInFlight(limiter));
+		}
+	}
+
+	@Test
+	void queueTest() throws Exception {
+
+		ConcurrencyLimiter limiter = builder.getConcurrencyLimiters().get("GET /limited/queue/:id");
+
+		CompletableFuture<HttpResponse<String>> one = get("/limited/queue/1");
+		CompletableFuture<HttpResponse<String>> two = get("/limited/queue/2");
+		CompletableFuture<HttpResponse<String>> three = get("/limited/queue/3");
+
+		assertEquals("1", one.get(10, TimeUnit.SECONDS).body());
+		assertEquals("2", two.get(10, TimeUnit.SECONDS).body());
+		assertEquals("3", three.get(10, TimeUnit.SECONDS).body());
+
+		assertEquals(0, limiter.getRejected());
+		assertEquals(0, awaitInFlight(limiter));
+		assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	void adaptiveLimitTest() throws Exception {
+
+		ConcurrencyLimiter limiter = builder.getConcurrencyLimiters().get("GET /limited/adaptive/:id");
+		assertEquals(4, limiter.getLimit());
+
+		for (int index = 0; index < 10; index++) {
+			assertEquals(200, get("/limited/adaptive/" + index).get(10, TimeUnit.SECONDS).statusCode());
+		}
+
+		assertEquals(0, awaitInFlight(limiter));
+		assertTrue(limiter.getLimit() >= 2 && limiter.getLimit() <= 8);
+	}
+
+	@Test
+	void queueTimeoutTest() throws Exception {
+
+		CompletableFuture<HttpResponse<String>> first = get("/limited/timeout/1");
+		Thread.sleep(100);
+		HttpResponse<String> second = get("/limited/timeout/2").get(10, TimeUnit.SECONDS);
+
+		assertEquals(503, second.statusCode());
+		assertEquals("1", second.getHeader("Retry-After"));
+		assertEquals(200, first.get(10, TimeUnit.SECONDS).statusCode());
+	}
+
+	/**
+	 * permit is released on server side once response is ended ... client might receive response before
+	 */
+	private static int awaitInFlight(ConcurrencyLimiter limiter) throws InterruptedException {
+
+		for (int retry = 0; retry < 50 && limiter.getInFlight() > 0; retry++) {
+			Thread.sleep(10);
+		}
+
+		return limiter.getInFlight();
+	}
+
+	private static CompletableFuture<HttpResponse<String>> get(String path) {
+
+		CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+
+		client.get(PORT, HOST, path).as(BodyCodec.string()).send(result -> {
+			if (result.succeeded()) {
+				future.complete(result.result());
+			} else {
+				future.completeExceptionally(result.cause());
+			}
+		});
+
+		return future;
+	}
+}
@@ -0,0 +1,117 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestETagRest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteETagTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = RestRouter.register(vertx, TestETagRest.class);
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@Test
+	void notModifiedTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/etag/dummy?name=test").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("{\"name\":\"test\",\"value\":\"value\"}", response.body());
+
+			      String tag = response.getHeader("ETag");
+			      assertNotNull(tag);
+			      assertTrue(tag.matches("\"[0-9a-f]{32}\""));
+
+			      client.get(PORT, HOST, "/etag/dummy?name=test").as(BodyCodec.string())
+			            .putHeader("If-None-Match", "\"other\", " + tag)
+			            .send(context.succeeding(notModified -> context.verify(() -> {
+				            assertEquals(304, notModified.statusCode());
+				            assertEquals(tag, notModified.getHeader("ETag"));
+				            assertNull(notModified.body());
+				            context.completeNow();
+			            })));
+		      })));
+	}
+
+	@Test
+	void modifiedTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/etag/dummy?name=changed").as(BodyCodec.string())
+		      .putHeader("If-None-Match", "\"0123456789abcdef0123456789abcdef\"")
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("{\"name\":\"changed\",\"value\":\"value\"}", response.body());
+			      assertNotEquals("\"0123456789abcdef0123456789abcdef\"", response.getHeader("ETag"));
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void weakTagTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/etag/weak").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+
+			      String tag = response.getHeader("ETag");
+			      assertTrue(tag.startsWith("W/\""));
+
+			      // weak comparison ... strong form matches as well
+			      client.get(PORT, HOST, "/etag/weak").as(BodyCodec.string())
+			            .putHeader("If-None-Match", tag.substring(2))
+			            .send(context.succeeding(notModified -> context.verify(() -> {
+				            assertEquals(304, notModified.statusCode());
+				            context.completeNow();
+			            })));
+		      })));
+	}
+
+	@Test
+	void versionSkipsInvocationTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/etag/version?version=1").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("{\"name\":\"version\",\"value\":\"1\"}", response.body());
+
+			      String tag = response.getHeader("ETag");
+			      assertNotNull(tag);
+			      int invoked = TestETagRest.invoked.get();
+
+			      client.get(PORT, HOST, "/etag/version?version=1").as(BodyCodec.string())
+			            .putHeader("If-None-Match", tag)
+			            .send(context.succeeding(notModified -> context.verify(() -> {
+				            assertEquals(304, notModified.statusCode());
+				            assertEquals(invoked, TestETagRest.invoked.get()); // REST was not invoked
+				            context.completeNow();
+			            })));
+		      })));
+	}
+
+	@Test
+	void errorIsNotTaggedTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/etag/fail").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(400, response.statusCode());
+			      assertEquals("Failed", response.body());
+			      assertNull(response.getHeader("ETag"));
+			      context.completeNow();
+		      })));
+	}
+}
@@ -0,0 +1,121 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestEventStreamRest;
+import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(VertxExtension.class)
+class RouteEventStreamTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = RestRouter.register(vertx, TestEventStreamRest.class);
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@Test
+	void eventStreamTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/events/numbers?count=3").as(BodyCodec.string())
+		      .putHeader("Accept", "text/event-stream")
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("text/event-stream", response.getHeader("Content-Type"));
+			      assertEquals("no-cache", response.getHeader("Cache-Control"));
+			      assertEquals("data: 0\n\ndata: 1\n\ndata: 2\n\n", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void largeEventStreamTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/events/numbers?count=100000").as(BodyCodec.string())
+		      .putHeader("Accept", "text/event-stream")
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+
+			      String body = response.body();
+			      assertTrue(body.startsWith("data: 0\n\ndata: 1\n\n"));
+			      assertTrue(body.endsWith("data: 99999\n\n"));
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void ndJsonTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/events/lines?count=2").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("application/x-ndjson", response.getHeader("Content-Type"));
+			      assertEquals("{\"name\":\"name0\",\"value\":\"value0\"}\n{\"name\":\"name1\",\"value\":\"value1\"}\n", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void notStreamedEventStreamTest(VertxTestContext context) {
+
+		// result is not streamed ... written as regular response
+		client.get(PORT, HOST, "/events/single").as(BodyCodec.string())
+		      .putHeader("Accept", "text/event-stream")
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("not streamed", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void notStreamedNdJsonTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/events/dummy").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("application/x-ndjson", response.getHeader("Content-Type"));
+			      assertTrue(response.body().length() > 0);
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void eventBusTest(VertxTestContext context) {
+
+		// keep publishing until response is consumed
+		long timer = vertx.setPeriodic(50, id -> vertx.eventBus().publish("test.events", "hello"));
+
+		HttpClient http = vertx.createHttpClient();
+		StringBuilder events = new StringBuilder();
+
+		http.getNow(PORT, HOST, "/events/bus", response -> response.handler(buffer -> {
+
+			events.append(buffer.toString());
+			if (events.length() >= 3 * "data: hello\n\n".length()) {
+
+				vertx.cancelTimer(timer);
+				context.verify(() -> {
+					assertEquals(200, response.statusCode());
+					assertTrue(events.toString().startsWith("data: hello\n\ndata: hello\n\ndata: hello\n\n"));
+				});
+
+				http.close();
+				context.completeNow();
+			}
+		}));
+	}
+}
@@ -0,0 +1,156 @@
+package com.zandero.rest;
+
+import com.zandero.rest.metrics.Phase;
+import com.zandero.rest.metrics.RouteMetrics;
+import com.zandero.rest.test.TestMetricsRest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteMetricsTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = new RestBuilder(vertx).register(TestMetricsRest.class)
+		                                      .exposeMetrics("/metrics")
+		                                      .timePhases(1)
+		                                      .serverTiming(true)
+		                                      .build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@AfterAll
+	static void reset() {
+
+		RestRouter.collectMetrics(false);
+		RestRouter.timePhases(0);
+		RestRouter.serverTiming(false);
+		RestRouter.getMetrics().clear();
+	}
+
+	@Test
+	void countRequestsTest() throws Exception {
+
+		for (int index = 0; index < 3; index++) {
+			assertEquals(200, get("/measured/ok").statusCode());
+		}
+
+		assertEquals(400, get("/measured/fail/1").statusCode());
+		assertEquals(400, get("/measured/fail/2").statusCode());
+
+		RouteMetrics ok = awaitRequests("GET /measured/ok", 3);
+		assertEquals(3, ok.getStatusCount(2));
+		assertEquals(0, ok.getStatusCount(4));
+		assertTrue(ok.getLatency().getMax() > 0);
+		assertTrue(ok.getLatency().getPercentile(50) <= ok.getLatency().getMax());
+
+		RouteMetrics fail = awaitRequests("GET /measured/fail/:value", 2); // metrics per route not per request path
+		assertEquals(0, fail.getStatusCount(2));
+		assertEquals(2, fail.getStatusCount(4));
+	}
+
+	@Test
+	void exposeMetricsTest() throws Exception {
+
+		get("/measured/ok");
+		awaitRequests("GET /measured/ok", 1);
+
+		HttpResponse<String> text = get("/metrics");
+		assertEquals(200, text.statusCode());
+		assertEquals("text/plain", text.getHeader("Content-Type"));
+		assertTrue(text.body().contains("GET /measured/ok requests="), text.body());
+		assertTrue(text.body().contains(" p99="), text.body());
+
+		HttpResponse<String> json = get("/metrics?format=json");
+		assertEquals("application/json", json.getHeader("Content-Type"));
+
+		JsonArray routes = new JsonArray(json.body());
+		JsonObject ok = null;
+		for (int index = 0; index < routes.size(); index++) {
+			if ("GET /measured/ok".equals(routes.getJsonObject(index).getString("route"))) {
+				ok = routes.getJsonObject(index);
+			}
+		}
+
+		assertNotNull(ok, json.body());
+		assertTrue(ok.getLong("requests") >= 1);
+		assertTrue(ok.getJsonObject("status").getLong("2xx") >= 1);
+		assertNotNull(ok.getJsonObject("latency").getDouble("p99"));
+	}
+
+	@Test
+	void phaseTimingTest() throws Exception {
+
+		HttpResponse<String> response = get("/measured/ok");
+		assertEquals(200, response.statusCode());
+
+		// phases finished before response headers were sent
+		String header = response.getHeader("Server-Timing");
+		assertNotNull(header);
+		assertTrue(header.contains("queue;dur="), header);
+		assertTrue(header.contains("arguments;dur="), header);
+		assertTrue(header.contains("invoke;dur="), header);
+		assertFalse(header.contains("validate"), header); // no validator
+
+		RouteMetrics metrics = awaitRequests("GET /measured/ok", 1);
+		for (int retry = 0; retry < 100 && metrics.getPhase(Phase.events) == null; retry++) { // recorded once phases are finished
+			Thread.sleep(10);
+		}
+
+		assertTrue(metrics.getPhase(Phase.invoke).getCount() >= 1);
+		assertTrue(metrics.getPhase(Phase.write).getCount() >= 1);
+		assertTrue(metrics.getPhase(Phase.events).getCount() >= 1);
+		assertEquals(0, metrics.getPhase(Phase.validate).getCount());
+
+		assertTrue(metrics.toJson().getJsonObject("phases").containsKey("queue"));
+	}
+
+	private static RouteMetrics awaitRequests(String route, long requests) throws InterruptedException {
+
+		// metrics are recorded once response is ended on server side
+		for (int retry = 0; retry < 100; retry++) {
+			RouteMetrics metrics = RestRouter.getMetrics().get(route);
+			if (metrics != null && metrics.getRequests() >= requests) {
+				return metrics;
+			}
+			Thread.sleep(10);
+		}
+
+		fail("Expected " + requests + " requests of: " + route);
+		return null;
+	}
+
+	private static HttpResponse<String> get(String path) throws Exception {
+
+		CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+
+		client.get(PORT, HOST, path).as(BodyCodec.string()).send(result -> {
+			if (result.succeeded()) {
+				future.complete(result.result());
+			} else {
+				future.completeExceptionally(result.cause());
+			}
+		});
+
+		return future.get(10, TimeUnit.SECONDS);
+	}
+}
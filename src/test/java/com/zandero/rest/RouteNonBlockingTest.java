@@ -0,0 +1,126 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestInheritedNonBlockingRest;
+import com.zandero.rest.test.TestInvalidNonBlockingRest;
+import com.zandero.rest.test.TestNonBlockingRest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteNonBlockingTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = new RestBuilder(vertx)
+			                .register(TestNonBlockingRest.class, TestInheritedNonBlockingRest.class)
+			                .guardNonBlocking(1)
+			                .build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@AfterAll
+	static void reset() {
+
+		RestRouter.guardNonBlocking(0);
+	}
+
+	@Test
+	void executeOnEventLoopTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/non/blocking?name=test").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("test: true", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void executeOnWorkerTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/non/worker").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("worker: false", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void blockingOverridesClassTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/non/pool").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("pool: false", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void blockingOverridesInterfaceTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/inherited/pool").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("pool: false", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void failOnEventLoopTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/non/fail").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(400, response.statusCode());
+			      assertEquals("Failed on event loop", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void guardWarningTest(VertxTestContext context) {
+
+		long warnings = RestRouter.getNonBlockingWarnings();
+
+		client.get(PORT, HOST, "/non/slow").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertTrue(RestRouter.getNonBlockingWarnings() > warnings); // blocked event loop longer than 1ms
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void methodOverridesInheritedNonBlockingTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/inherited/worker").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("worker: false", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void blockingAndNonBlockingTest() {
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> RestRouter.register(vertx, TestInvalidNonBlockingRest.class));
+		assertEquals("com.zandero.rest.test.TestInvalidNonBlockingRest.blocking() - @Blocking can't be combined with @NonBlocking!", e.getMessage());
+	}
+}
@@ -0,0 +1,100 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestInvalidStreamRest;
+import com.zandero.rest.test.TestStreamingRest;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteStreamingBodyTest extends VertxTest {
+
+	private static final int SIZE = 5 * 1024 * 1024; // bigger than default chunk size
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = RestRouter.register(vertx, TestStreamingRest.class);
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@Test
+	void streamBodyAsyncTest(VertxTestContext context) {
+
+		client.post(PORT, HOST, "/stream/count").as(BodyCodec.string())
+		      .sendBuffer(getBody(), context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("read: " + SIZE, response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void streamBodyOnWorkerTest(VertxTestContext context) {
+
+		client.post(PORT, HOST, "/stream/blocking").as(BodyCodec.string())
+		      .sendBuffer(getBody(), context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("read: " + SIZE, response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void emptyBodyTest(VertxTestContext context) {
+
+		client.post(PORT, HOST, "/stream/count").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("read: 0", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void unreadBodyIsDrainedTest(VertxTestContext context) {
+
+		// single connection ... second request gets through only if first body was drained
+		WebClient single = WebClient.create(vertx, new WebClientOptions().setMaxPoolSize(1).setKeepAlive(true));
+
+		single.post(PORT, HOST, "/stream/ignore").as(BodyCodec.string())
+		      .sendBuffer(getBody(), context.succeeding(first -> context.verify(() -> {
+			      assertEquals(200, first.statusCode());
+			      assertEquals("ignored", first.body());
+
+			      single.post(PORT, HOST, "/stream/count").as(BodyCodec.string())
+			            .sendBuffer(getBody(), context.succeeding(second -> context.verify(() -> {
+				            assertEquals(200, second.statusCode());
+				            assertEquals("read: " + SIZE, second.body());
+
+				            single.close();
+				            context.completeNow();
+			            })));
+		      })));
+	}
+
+	@Test
+	void invalidStreamTypeTest() {
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> RestRouter.register(vertx, TestInvalidStreamRest.class));
+		assertTrue(e.getMessage().contains("Request body can only be streamed as ReadStream<Buffer>"), e.getMessage());
+	}
+
+	private static Buffer getBody() {
+
+		return Buffer.buffer(new byte[SIZE]);
+	}
+}
@@ -0,0 +1,148 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestTimeoutRest;
+import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteTimeoutTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = new RestBuilder(vertx).register(TestTimeoutRest.class)
+		                                      .timeout(300)
+		                                      .build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@AfterAll
+	static void reset() {
+
+		RestRouter.timeout(0);
+	}
+
+	@Test
+	void blockingTimeoutTest() throws Exception {
+
+		long start = System.currentTimeMillis();
+		HttpResponse<String> response = get("/timeout/blocking");
+
+		assertEquals(503, response.statusCode());
+		assertTrue(response.body().startsWith("Time limit of 200ms exceeded"), response.body());
+		assertTrue(System.currentTimeMillis() - start < 3000);
+
+		// worker was interrupted
+		for (int retry = 0; retry < 50 && !TestTimeoutRest.interrupted.get(); retry++) {
+			Thread.sleep(10);
+		}
+		assertTrue(TestTimeoutRest.interrupted.get());
+	}
+
+	@Test
+	void asyncTimeoutTest() throws Exception {
+
+		assertEquals(503, get("/timeout/async").statusCode());
+	}
+
+	@Test
+	void catchAllHandlerTimeoutTest() throws Exception {
+
+		// status is kept when timeout is handled by custom handler
+		HttpResponse<String> response = get("/timeout/catch");
+		assertEquals(503, response.statusCode());
+		assertTrue(response.body().startsWith("Exception: Time limit of 100ms exceeded"), response.body());
+	}
+
+	@Test
+	void deadlineTest() throws Exception {
+
+		HttpResponse<String> response = get("/timeout/remaining");
+		assertEquals(200, response.statusCode());
+
+		String[] values = response.body().split(":");
+		assertEquals("1000", values[0]);
+
+		long remaining = Long.parseLong(values[1]);
+		assertTrue(remaining > 0 && remaining <= 1000, response.body());
+	}
+
+	@Test
+	void disabledTimeoutTest() throws Exception {
+
+		HttpResponse<String> response = get("/timeout/unlimited");
+		assertEquals(200, response.statusCode());
+		assertEquals("" + Long.MAX_VALUE, response.body());
+	}
+
+	@Test
+	void globalTimeoutTest() throws Exception {
+
+		assertEquals(503, get("/timeout/global").statusCode());
+	}
+
+	@Test
+	void streamOutlivesGlobalTimeoutTest() throws Exception {
+
+		// keep publishing ... stream is written well beyond global time limit (300ms)
+		long timer = vertx.setPeriodic(50, id -> vertx.eventBus().publish("test.timeout.events", "tick"));
+
+		HttpClient http = vertx.createHttpClient();
+		StringBuilder events = new StringBuilder();
+		CompletableFuture<Integer> done = new CompletableFuture<>();
+
+		long start = System.currentTimeMillis();
+		http.getNow(PORT, HOST, "/timeout/stream", response -> {
+
+			response.exceptionHandler(done::completeExceptionally);
+			response.endHandler(v -> done.completeExceptionally(new IllegalStateException("Stream ended: " + events)));
+			response.handler(buffer -> {
+				events.append(buffer.toString());
+				if (events.length() >= 12 * "data: tick\n\n".length()) {
+					done.complete(response.statusCode());
+				}
+			});
+		});
+
+		try {
+			assertEquals(200, done.get(10, TimeUnit.SECONDS).intValue());
+			assertTrue(System.currentTimeMillis() - start > 300);
+		}
+		finally {
+			vertx.cancelTimer(timer);
+			http.close();
+		}
+	}
+
+	private static HttpResponse<String> get(String path) throws Exception {
+
+		CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+
+		client.get(PORT, HOST, path).as(BodyCodec.string()).send(result -> {
+			if (result.succeeded()) {
+				future.complete(result.result());
+			} else {
+				future.completeExceptionally(result.cause());
+			}
+		});
+
+		return future.get(10, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,65 @@
+package com.zandero.rest;
+
+import com.zandero.rest.executor.VirtualThreadExecutor;
+import com.zandero.rest.test.TestVirtualThreadRest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(VertxExtension.class)
+class RouteVirtualThreadTest extends VertxTest {
+
+	// falls back to worker pool on runtimes not supporting virtual threads
+	private static final String EXPECTED = VirtualThreadExecutor.isSupported() ? "virtual" : "worker";
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = RestRouter.register(vertx, TestVirtualThreadRest.class);
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@Test
+	void executeOnVirtualThreadTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/virtual/thread?name=test").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("test: " + EXPECTED, response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void executeOnWorkerTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/virtual/worker").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("worker", response.body());
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void failOnVirtualThreadTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/virtual/fail").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(400, response.statusCode());
+			      assertEquals("Failed on: " + EXPECTED, response.body());
+			      context.completeNow();
+		      })));
+	}
+}
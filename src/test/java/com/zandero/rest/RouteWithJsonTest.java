@@ -0,0 +1,84 @@
+package com.zandero.rest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.zandero.rest.test.TestJsonRest;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.utils.extra.JsonUtils;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(VertxExtension.class)
+class RouteWithJsonTest extends VertxTest {
+
+	@BeforeAll
+	static void start() {
+
+		before();
+
+		Router router = RestRouter.register(vertx, TestJsonRest.class);
+
+		vertx.createHttpServer()
+		     .requestHandler(router)
+		     .listen(PORT);
+	}
+
+	@Test
+	void jsonListTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/json/list?size=2").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("[{\"name\":\"name0\",\"value\":\"value0\"},{\"name\":\"name1\",\"value\":\"value1\"}]", response.body());
+			      assertEquals(response.body().length(), Integer.parseInt(response.getHeader("Content-Length")));
+			      assertNull(response.getHeader("Transfer-Encoding"));
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void chunkedJsonListTest(VertxTestContext context) {
+
+		client.get(PORT, HOST, "/json/chunked?size=1000").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+			      assertEquals("chunked", response.getHeader("Transfer-Encoding"));
+
+			      List<Dummy> list = JsonUtils.fromJson(response.body(), new TypeReference<List<Dummy>>() {});
+			      assertEquals(1000, list.size());
+			      assertEquals("name999", list.get(999).name);
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void largeChunkedJsonListTest(VertxTestContext context) {
+
+		// many chunks ... writing waits while response write queue is full
+		client.get(PORT, HOST, "/json/chunked?size=100000").as(BodyCodec.string())
+		      .send(context.succeeding(response -> context.verify(() -> {
+			      assertEquals(200, response.statusCode());
+
+			      List<Dummy> list = JsonUtils.fromJson(response.body(), new TypeReference<List<Dummy>>() {});
+			      assertEquals(100000, list.size());
+			      assertEquals("name99999", list.get(99999).name);
+			      context.completeNow();
+		      })));
+	}
+
+	@Test
+	void failingChunkedJsonTest(VertxTestContext context) {
+
+		// status was already sent with first chunk ... connection is closed
+		client.get(PORT, HOST, "/json/failing?size=1000").as(BodyCodec.string())
+		      .send(context.failing(e -> context.completeNow()));
+	}
+}
@@ -0,0 +1,129 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.AnnotationProcessor;
+import com.zandero.rest.RestRouter;
+import com.zandero.rest.data.ArgumentExtractor;
+import com.zandero.rest.data.ArgumentProvider;
+import com.zandero.rest.data.RouteDefinition;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import io.vertx.ext.web.handler.CookieHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Argument extraction per parameter type (@BeanParam is left out as it requires a custom reader)
+ *
+ * Arguments are extracted from a routing context of a real request captured on local server,
+ * the request is held open while benchmark runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentProviderBenchmark {
+
+	@Param({"path", "query", "cookie", "form", "header", "matrix", "body", "context"})
+	public String type;
+
+	private LocalServer server;
+
+	private ArgumentExtractor[] extractors;
+
+	private RoutingContext context;
+
+	@Setup
+	public void setup() throws Exception {
+
+		String path = "/bench/" + type;
+		MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+		HttpMethod method = HttpMethod.GET;
+		String uri = path;
+		String body = null;
+
+		switch (type) {
+			case "path":
+				uri = "/bench/path/42";
+				path = "/bench/path/:id";
+				break;
+
+			case "query":
+				uri = "/bench/query?value=42&other=1";
+				break;
+
+			case "cookie":
+				headers.add("Cookie", "session=abc123; other=1");
+				break;
+
+			case "form":
+				method = HttpMethod.POST;
+				headers.add("Content-Type", "application/x-www-form-urlencoded");
+				body = "value=42&other=1";
+				break;
+
+			case "header":
+				headers.add("X-Value", "42");
+				break;
+
+			case "matrix":
+				uri = "/bench/matrix/result;one=1;two=2";
+				path = "/bench/matrix/:param";
+				break;
+
+			case "body":
+				method = HttpMethod.POST;
+				headers.add("Content-Type", "application/json");
+				body = "{\"name\": \"test\", \"value\": \"42\"}";
+				break;
+		}
+
+		for (Map.Entry<RouteDefinition, Method> entry : AnnotationProcessor.get(BenchmarkRest.class).entrySet()) {
+			if (entry.getKey().getRoutePath().equals(path)) {
+				extractors = ArgumentProvider.compile(entry.getValue(),
+				                                      entry.getKey(),
+				                                      RestRouter.getReaders(),
+				                                      RestRouter.getContextProviders());
+			}
+		}
+
+		if (extractors == null) {
+			throw new IllegalStateException("Missing route: " + path);
+		}
+
+		// capture routing context of request, response is not sent until tear down
+		CompletableFuture<RoutingContext> captured = new CompletableFuture<>();
+
+		server = new LocalServer();
+		server.router()
+		      .route(method, path)
+		      .handler(BodyHandler.create())
+		      .handler(CookieHandler.create())
+		      .handler(captured::complete);
+
+		server.start();
+		server.send(method, uri, headers, body);
+
+		context = captured.get(10, TimeUnit.SECONDS);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		context.vertx().runOnContext(v -> context.response().end());
+		server.close();
+	}
+
+	@Benchmark
+	public Object[] getArguments() throws Throwable {
+
+		return ArgumentProvider.getArguments(extractors, context, null);
+	}
+}
@@ -0,0 +1,88 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.test.json.Dummy;
+import io.vertx.core.http.HttpServerRequest;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * REST used by benchmarks, a route per parameter type
+ */
+@Path("bench")
+public class BenchmarkRest {
+
+	@GET
+	@Path("text")
+	public String text() {
+
+		return "Hello world!";
+	}
+
+	@GET
+	@Path("path/{id}")
+	public int path(@PathParam("id") int id) {
+
+		return id;
+	}
+
+	@GET
+	@Path("query")
+	public int query(@QueryParam("value") int value) {
+
+		return value;
+	}
+
+	@GET
+	@Path("cookie")
+	public String cookie(@CookieParam("session") String session) {
+
+		return session;
+	}
+
+	@POST
+	@Path("form")
+	@Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+	public String form(@FormParam("value") String value) {
+
+		return value;
+	}
+
+	@GET
+	@Path("header")
+	public String header(@HeaderParam("X-Value") String value) {
+
+		return value;
+	}
+
+	@GET
+	@Path("matrix/{param}")
+	public int matrix(@PathParam("param") String param, @MatrixParam("one") int one, @MatrixParam("two") int two) {
+
+		return one + two;
+	}
+
+	@POST
+	@Path("body")
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.APPLICATION_JSON)
+	public Dummy body(Dummy dummy) {
+
+		return dummy;
+	}
+
+	@GET
+	@Path("context")
+	public String context(@Context HttpServerRequest request) {
+
+		return request.path();
+	}
+
+	@GET
+	@Path("error")
+	public String error() {
+
+		throw new IllegalArgumentException("Invalid request!");
+	}
+}
@@ -0,0 +1,79 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.AnnotationProcessor;
+import com.zandero.rest.data.ClassFactory;
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.rest.exception.ClassFactoryException;
+import com.zandero.rest.exception.ContextException;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.rest.writer.JsonResponseWriter;
+import com.zandero.rest.writer.WriterFactory;
+import org.openjdk.jmh.annotations.*;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of shared class factory lookups, value construction and response writer resolution,
+ * run with different thread counts (-t 1, -t 4, -t max) to check lookups scale across cores
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassFactoryBenchmark {
+
+	private WriterFactory writers;
+
+	private RouteDefinition text;
+
+	private RouteDefinition json;
+
+	@Setup
+	public void setup() {
+
+		writers = new WriterFactory();
+
+		for (RouteDefinition definition : AnnotationProcessor.get(BenchmarkRest.class).keySet()) {
+			if (definition.getRoutePath().equals("/bench/text")) {
+				text = definition;
+			} else if (definition.getRoutePath().equals("/bench/body")) {
+				json = definition;
+			}
+		}
+	}
+
+	@Benchmark
+	public HttpResponseWriter getClassInstance() throws ClassFactoryException, ContextException {
+		return writers.getClassInstance(JsonResponseWriter.class, null, null);
+	}
+
+	@Benchmark
+	public Class<? extends HttpResponseWriter> getByType() {
+		return writers.get(Response.class);
+	}
+
+	@Benchmark
+	public Object constructPrimitive() throws ClassFactoryException {
+		return ClassFactory.constructType(Integer.class, "42");
+	}
+
+	@Benchmark
+	public Object constructViaConstructor() throws ClassFactoryException {
+		return ClassFactory.constructType(Dummy.class, "{\"name\": \"test\", \"value\": \"42\"}");
+	}
+
+	@Benchmark
+	public HttpResponseWriter getTextResponseWriter() {
+		return writers.getResponseWriter(String.class, text, null, null, MediaType.WILDCARD_TYPE);
+	}
+
+	@Benchmark
+	public HttpResponseWriter getJsonResponseWriter() {
+		return writers.getResponseWriter(Dummy.class, json, null, null, MediaType.APPLICATION_JSON_TYPE);
+	}
+}
@@ -0,0 +1,117 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.concurrency.ConcurrencyLimiter;
+import com.zandero.rest.concurrency.GradientLimit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Request latency distribution of an overloaded route (64 concurrent clients, backend serving 8 requests at once)
+ * without limit, with fixed and with adaptive limit.
+ *
+ * Without limit all requests queue up in backend and latency grows with load,
+ * limited routes reject excess requests fast (503) and keep latency of served requests close to backend service time.
+ * Rejected clients back off for the time of a single backend call before retrying.
+ * Compare p0.99 / p0.999 percentiles of sample time output.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ConcurrencyLimitBenchmark {
+
+	/**
+	 * number of requests backend serves at once
+	 */
+	private static final int CAPACITY = 8;
+
+	private static final long SERVICE_TIME = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Param({"unlimited", "fixed", "adaptive"})
+	public String mode;
+
+	private ConcurrencyLimiter limiter;
+
+	private Semaphore backend;
+
+	@State(Scope.Thread)
+	public static class Permit {
+
+		boolean granted;
+	}
+
+	@Setup
+	public void setup() {
+
+		backend = new Semaphore(CAPACITY, true);
+
+		switch (mode) {
+			case "fixed":
+				limiter = new ConcurrencyLimiter("fixed", CAPACITY * 2, 0, 0, 1);
+				break;
+
+			case "adaptive":
+				limiter = new ConcurrencyLimiter("adaptive", new GradientLimit(CAPACITY * 4), 0, 0, 1);
+				break;
+
+			default:
+				limiter = null;
+		}
+	}
+
+	@TearDown
+	public void report() {
+
+		if (limiter != null) {
+			System.out.println();
+			System.out.println(mode + " limit: " + limiter.getLimit() + ", rejected: " + limiter.getRejected());
+		}
+	}
+
+	@Benchmark
+	public boolean request(Permit permit) throws InterruptedException {
+
+		if (limiter == null) {
+			serve();
+			return true;
+		}
+
+		permit.granted = false;
+		limiter.acquire(null, v -> permit.granted = true, v -> permit.granted = false);
+
+		if (!permit.granted) { // rejected ... retry after
+			LockSupport.parkNanos(SERVICE_TIME);
+			return false;
+		}
+
+		long start = System.nanoTime();
+		try {
+			serve();
+		}
+		finally {
+			limiter.release(System.nanoTime() - start, false);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Simulated backend, requests over capacity wait for their turn
+	 */
+	private void serve() throws InterruptedException {
+
+		backend.acquire();
+		try {
+			LockSupport.parkNanos(SERVICE_TIME);
+		}
+		finally {
+			backend.release();
+		}
+	}
+}
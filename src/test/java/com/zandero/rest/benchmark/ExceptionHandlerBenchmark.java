@@ -0,0 +1,73 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.exception.*;
+import com.zandero.rest.test.handler.IllegalArgumentExceptionHandler;
+import com.zandero.rest.test.handler.MyExceptionClass;
+import com.zandero.rest.test.handler.MyExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+
+import javax.ws.rs.WebApplicationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exception handler resolution (REST defined, registered, default and generic handler)
+ * and cost of creating the exception thrown when a request fails (with and without stack trace)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+	private ExceptionHandlerFactory handlers;
+
+	private Class<? extends ExceptionHandler>[] definitionHandlers;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		handlers = new ExceptionHandlerFactory();
+		handlers.register(MyExceptionHandler.class);
+
+		definitionHandlers = new Class[]{IllegalArgumentExceptionHandler.class};
+	}
+
+	@Benchmark
+	public ExceptionHandler definitionHandler() throws ClassFactoryException, ContextException {
+
+		return handlers.getExceptionHandler(IllegalArgumentException.class, definitionHandlers, null, null);
+	}
+
+	@Benchmark
+	public ExceptionHandler registeredHandler() throws ClassFactoryException, ContextException {
+
+		return handlers.getExceptionHandler(MyExceptionClass.class, null, null, null);
+	}
+
+	@Benchmark
+	public ExceptionHandler defaultHandler() throws ClassFactoryException, ContextException {
+
+		return handlers.getExceptionHandler(WebApplicationException.class, null, null, null);
+	}
+
+	@Benchmark
+	public ExceptionHandler genericHandler() throws ClassFactoryException, ContextException {
+
+		return handlers.getExceptionHandler(NullPointerException.class, null, null, null);
+	}
+
+	@Benchmark
+	public ExecuteException executeException() {
+
+		return new ExecuteException(400, new IllegalArgumentException("Invalid request!"));
+	}
+
+	@Benchmark
+	public ExecuteException stacklessException() {
+
+		return new ExecuteException(401, "HTTP 401 Unauthorized", false);
+	}
+}
@@ -0,0 +1,80 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.invoker.MethodHandleInvokerProvider;
+import com.zandero.rest.invoker.MethodInvoker;
+import com.zandero.rest.invoker.ReflectionInvokerProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reflective REST method invocation against default method handle invoker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvokerBenchmark {
+
+	public static class Rest {
+
+		public String echo(String value) {
+			return value;
+		}
+
+		public int add(int one, int two) {
+			return one + two;
+		}
+	}
+
+	private Object[] echoArguments;
+	private Object[] addArguments;
+
+	private MethodInvoker reflectionEcho;
+	private MethodInvoker reflectionAdd;
+
+	private MethodInvoker handleEcho;
+	private MethodInvoker handleAdd;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+
+		Rest rest = new Rest();
+		Method echo = Rest.class.getMethod("echo", String.class);
+		Method add = Rest.class.getMethod("add", int.class, int.class);
+
+		echoArguments = new Object[]{"echo"};
+		addArguments = new Object[]{1, 2};
+
+		ReflectionInvokerProvider reflection = new ReflectionInvokerProvider();
+		reflectionEcho = reflection.bind(rest, echo);
+		reflectionAdd = reflection.bind(rest, add);
+
+		MethodHandleInvokerProvider handles = new MethodHandleInvokerProvider();
+		handleEcho = handles.bind(rest, echo);
+		handleAdd = handles.bind(rest, add);
+	}
+
+	@Benchmark
+	public Object reflectionEcho() throws Throwable {
+		return reflectionEcho.invoke(echoArguments);
+	}
+
+	@Benchmark
+	public Object reflectionAdd() throws Throwable {
+		return reflectionAdd.invoke(addArguments);
+	}
+
+	@Benchmark
+	public Object methodHandleEcho() throws Throwable {
+		return handleEcho.invoke(echoArguments);
+	}
+
+	@Benchmark
+	public Object methodHandleAdd() throws Throwable {
+		return handleAdd.invoke(addArguments);
+	}
+}
@@ -0,0 +1,134 @@
+package com.zandero.rest.benchmark;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local vert.x server and client on loopback interface, benchmarks run offline
+ */
+final class LocalServer {
+
+	static final int PORT = 4455;
+
+	static final String HOST = "localhost";
+
+	/**
+	 * max open connections, enough for each benchmark thread to have its own
+	 */
+	private static final int MAX_CONNECTIONS = 64;
+
+	private final Vertx vertx;
+
+	private final Router router;
+
+	private final HttpClient client;
+
+	private HttpServer server;
+
+	LocalServer() {
+
+		vertx = Vertx.vertx();
+		router = Router.router(vertx);
+		client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(MAX_CONNECTIONS));
+	}
+
+	Vertx vertx() {
+
+		return vertx;
+	}
+
+	Router router() {
+
+		return router;
+	}
+
+	/**
+	 * Starts listening, once routes are set
+	 */
+	LocalServer start() throws Exception {
+
+		CompletableFuture<HttpServer> started = new CompletableFuture<>();
+		vertx.createHttpServer().requestHandler(router).listen(PORT, result -> {
+			if (result.succeeded()) {
+				started.complete(result.result());
+			} else {
+				started.completeExceptionally(result.cause());
+			}
+		});
+
+		server = started.get(10, TimeUnit.SECONDS);
+		return this;
+	}
+
+	/**
+	 * Sends request without waiting for response
+	 */
+	CompletableFuture<Response> send(HttpMethod method, String uri, MultiMap headers, String body) {
+
+		CompletableFuture<Response> future = new CompletableFuture<>();
+
+		HttpClientRequest request = client.request(method, PORT, HOST, uri, response -> {
+			response.exceptionHandler(future::completeExceptionally);
+			response.bodyHandler(content -> future.complete(new Response(response.statusCode(), content)));
+		});
+
+		request.exceptionHandler(future::completeExceptionally);
+
+		if (headers != null) {
+			request.headers().addAll(headers);
+		}
+
+		if (body != null) {
+			request.end(body);
+		} else {
+			request.end();
+		}
+
+		return future;
+	}
+
+	/**
+	 * Sends request and waits for response
+	 */
+	Response request(HttpMethod method, String uri, MultiMap headers, String body) throws Exception {
+
+		return send(method, uri, headers, body).get(10, TimeUnit.SECONDS);
+	}
+
+	void close() throws Exception {
+
+		client.close();
+		if (server != null) {
+			CompletableFuture<Void> closed = new CompletableFuture<>();
+			server.close(result -> closed.complete(null));
+			closed.get(10, TimeUnit.SECONDS);
+		}
+
+		CompletableFuture<Void> closed = new CompletableFuture<>();
+		vertx.close(result -> closed.complete(null));
+		closed.get(10, TimeUnit.SECONDS);
+	}
+
+	static final class Response {
+
+		final int status;
+
+		final Buffer body;
+
+		Response(int status, Buffer body) {
+
+			this.status = status;
+			this.body = body;
+		}
+	}
+}
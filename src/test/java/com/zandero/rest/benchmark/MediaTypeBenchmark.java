@@ -0,0 +1,51 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.data.MediaTypeHelper;
+import org.openjdk.jmh.annotations.*;
+
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Media type parsing as done for Accept / Content-Type headers and @Produces / @Consumes values
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MediaTypeBenchmark {
+
+	@Param({"application/json", "application/json;charset=UTF-8", "text/html; q=0.9"})
+	public String mediaType;
+
+	private String[] mediaTypes;
+
+	private MediaType parsed;
+
+	@Setup
+	public void setup() {
+
+		mediaTypes = new String[]{mediaType, "text/plain", "application/xml"};
+		parsed = MediaTypeHelper.valueOf(mediaType);
+	}
+
+	@Benchmark
+	public MediaType valueOf() {
+
+		return MediaTypeHelper.valueOf(mediaType);
+	}
+
+	@Benchmark
+	public MediaType[] getMediaTypes() {
+
+		return MediaTypeHelper.getMediaTypes(mediaTypes);
+	}
+
+	@Benchmark
+	public String getKey() {
+
+		return MediaTypeHelper.getKey(parsed);
+	}
+}
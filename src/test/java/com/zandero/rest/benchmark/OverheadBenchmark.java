@@ -0,0 +1,388 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.RestBuilder;
+import com.zandero.rest.RestRouter;
+import com.zandero.rest.annotation.Event;
+import com.zandero.rest.annotation.NonBlocking;
+import com.zandero.rest.annotation.ResponseWriter;
+import com.zandero.rest.events.RestEvent;
+import com.zandero.rest.test.data.SimulatedUser;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.rest.writer.HttpResponseWriter;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import org.hibernate.validator.HibernateValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+
+import javax.annotation.security.RolesAllowed;
+import javax.validation.Validation;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Framework overhead: identical endpoints implemented as bare vert.x web handlers and as RESTs registered with {@link RestBuilder},
+ * one feature per endpoint (parameters, @Context, validation, events, security, custom writers and metrics)
+ *
+ * RESTs execute on worker pool by default while bare handlers execute on event loop,
+ * "nonBlocking" is the "path" REST executed on event loop to tell dispatch overhead apart from worker hand-off.
+ *
+ * Run {@link #main(String[])} to get throughput and p50 / p99 / p999 overhead per feature,
+ * or run through JMH (mvn -P benchmark test -Dbenchmark=OverheadBenchmark) for raw results.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverheadBenchmark {
+
+	private static final String JSON = "{\"name\": \"test\", \"value\": \"42\"}";
+
+	@Param({"vertx", "rest"})
+	public String implementation;
+
+	@Param({"path", "nonBlocking", "query", "body", "context", "validation", "events", "security", "writer", "metrics"})
+	public String feature;
+
+	private LocalServer server;
+
+	private HttpMethod method;
+
+	private String uri;
+
+	private MultiMap headers;
+
+	private String body;
+
+	@Setup
+	public void setup() throws Exception {
+
+		server = new LocalServer();
+
+		Router router = server.router();
+		router.route().handler(OverheadBenchmark::setUser); // authentication is not measured, only authorization
+
+		if ("rest".equals(implementation)) {
+
+			RestBuilder builder = new RestBuilder(router).register(OverheadRest.class);
+			if ("validation".equals(feature)) { // validator validates all RESTs once given
+				builder.validateWith(Validation.byProvider(HibernateValidator.class).configure().buildValidatorFactory().getValidator());
+			}
+
+			if ("metrics".equals(feature)) { // "path" REST with metrics collected ... compare with "path" to get cost of recording
+				builder.collectMetrics(true);
+			}
+
+			builder.build();
+		} else {
+			registerHandlers(router);
+		}
+
+		server.start();
+
+		method = HttpMethod.GET;
+		headers = MultiMap.caseInsensitiveMultiMap();
+		body = null;
+
+		switch (feature) {
+			case "path":
+				uri = "/overhead/path/42";
+				break;
+
+			case "nonBlocking":
+				uri = "/overhead/nonBlocking/42";
+				break;
+
+			case "metrics":
+				uri = "/overhead/path/42";
+				break;
+
+			case "query":
+				uri = "/overhead/query?value=42";
+				break;
+
+			case "body":
+				method = HttpMethod.POST;
+				uri = "/overhead/body";
+				headers.add("Content-Type", MediaType.APPLICATION_JSON);
+				body = JSON;
+				break;
+
+			case "validation":
+				uri = "/overhead/validation?value=42";
+				break;
+
+			case "security":
+				uri = "/overhead/security";
+				headers.add("X-Token", "user");
+				break;
+
+			default:
+				uri = "/overhead/" + feature;
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		server.close();
+		RestRouter.collectMetrics(false);
+	}
+
+	@Benchmark
+	public Buffer request() throws Exception {
+
+		LocalServer.Response response = server.request(method, uri, headers, body);
+		if (response.status != 200) { // make sure what is measured
+			throw new IllegalStateException(implementation + " " + feature + " failed with: " + response.status);
+		}
+
+		return response.body;
+	}
+
+	private static void setUser(RoutingContext context) {
+
+		String token = context.request().getHeader("X-Token");
+		if (token != null) {
+			context.setUser(new SimulatedUser(token));
+		}
+
+		context.next();
+	}
+
+	/**
+	 * Bare vert.x web handlers doing the same work as {@link OverheadRest}
+	 */
+	private static void registerHandlers(Router router) {
+
+		router.getWithRegex("/overhead/(path|nonBlocking)/.*").handler(context -> {
+			String path = context.request().path();
+			int id = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+			context.response().end(Integer.toString(id));
+		});
+
+		router.get("/overhead/query").handler(context -> {
+			int value = Integer.parseInt(context.request().getParam("value"));
+			context.response().end(Integer.toString(value));
+		});
+
+		router.post("/overhead/body").consumes(MediaType.APPLICATION_JSON).handler(BodyHandler.create()).handler(context -> {
+			Dummy dummy = Json.decodeValue(context.getBody(), Dummy.class);
+			context.response().putHeader("Content-Type", MediaType.APPLICATION_JSON).end(Json.encodeToBuffer(dummy));
+		});
+
+		router.get("/overhead/context").handler(context -> context.response().end(context.request().path()));
+
+		router.get("/overhead/validation").handler(context -> {
+			int value = Integer.parseInt(context.request().getParam("value"));
+			if (value < 1 || value > 100) {
+				context.response().setStatusCode(400).end("Invalid value: " + value);
+				return;
+			}
+
+			context.response().end(Integer.toString(value));
+		});
+
+		OverheadEvent event = new OverheadEvent();
+		router.get("/overhead/events").handler(context -> {
+			Dummy dummy = new Dummy("event", "42");
+			context.response().putHeader("Content-Type", MediaType.APPLICATION_JSON).end(Json.encodeToBuffer(dummy));
+			event.execute(dummy, context);
+		});
+
+		router.get("/overhead/security").handler(context -> {
+			if (context.user() == null) {
+				context.response().setStatusCode(401).end();
+				return;
+			}
+
+			context.user().isAuthorized("user", result -> {
+				if (result.succeeded() && result.result()) {
+					context.response().end("secure");
+				} else {
+					context.response().setStatusCode(401).end();
+				}
+			});
+		});
+
+		OverheadWriter writer = new OverheadWriter();
+		router.get("/overhead/writer").handler(context -> writer.write("custom", context.request(), context.response()));
+	}
+
+	@Path("overhead")
+	public static class OverheadRest {
+
+		@GET
+		@Path("path/{id}")
+		public int path(@PathParam("id") int id) {
+
+			return id;
+		}
+
+		@GET
+		@Path("nonBlocking/{id}")
+		@NonBlocking // executed on event loop as bare handlers are
+		public int nonBlocking(@PathParam("id") int id) {
+
+			return id;
+		}
+
+		@GET
+		@Path("query")
+		public int query(@QueryParam("value") int value) {
+
+			return value;
+		}
+
+		@POST
+		@Path("body")
+		@Consumes(MediaType.APPLICATION_JSON)
+		@Produces(MediaType.APPLICATION_JSON)
+		public Dummy body(Dummy dummy) {
+
+			return dummy;
+		}
+
+		@GET
+		@Path("context")
+		public String context(@Context HttpServerRequest request) {
+
+			return request.path();
+		}
+
+		@GET
+		@Path("validation")
+		public int validation(@QueryParam("value") @Min(1) @Max(100) int value) {
+
+			return value;
+		}
+
+		@GET
+		@Path("events")
+		@Produces(MediaType.APPLICATION_JSON)
+		@Event(OverheadEvent.class)
+		public Dummy events() {
+
+			return new Dummy("event", "42");
+		}
+
+		@GET
+		@Path("security")
+		@RolesAllowed("user")
+		public String security() {
+
+			return "secure";
+		}
+
+		@GET
+		@Path("writer")
+		@ResponseWriter(OverheadWriter.class)
+		public String writer() {
+
+			return "custom";
+		}
+	}
+
+	public static class OverheadEvent implements RestEvent<Dummy> {
+
+		@Override
+		public void execute(Dummy entity, RoutingContext context) {
+
+			context.vertx().eventBus().publish("overhead.events", entity.value);
+		}
+	}
+
+	public static class OverheadWriter implements HttpResponseWriter<String> {
+
+		@Override
+		public void write(String result, HttpServerRequest request, HttpServerResponse response) {
+
+			response.putHeader("Content-Type", MediaType.TEXT_HTML).end("<b>" + result + "</b>");
+		}
+	}
+
+	/**
+	 * Runs benchmark and prints overhead of REST against bare vert.x handlers per feature
+	 *
+	 * @param args JMH options (without benchmark pattern), for instance: -p feature=path,query -wi 1 -i 3
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+
+		Options options = new OptionsBuilder().parent(new CommandLineOptions(args))
+		                                      .include(OverheadBenchmark.class.getSimpleName())
+		                                      .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+		                                      .build();
+
+		// feature / implementation / result per mode
+		Map<String, Map<String, Map<Mode, RunResult>>> results = new LinkedHashMap<>();
+		for (RunResult result : new Runner(options).run()) {
+
+			String feature = result.getParams().getParam("feature");
+			String implementation = result.getParams().getParam("implementation");
+
+			results.computeIfAbsent(feature, key -> new HashMap<>())
+			       .computeIfAbsent(implementation, key -> new EnumMap<>(Mode.class))
+			       .put(result.getParams().getMode(), result);
+		}
+
+		System.out.println();
+		System.out.println(String.format("%-12s %14s %14s %9s %22s %22s %22s",
+		                                 "feature", "vertx ops/ms", "rest ops/ms", "overhead", "p50 us", "p99 us", "p999 us"));
+
+		for (Map.Entry<String, Map<String, Map<Mode, RunResult>>> entry : results.entrySet()) {
+
+			Map<Mode, RunResult> vertx = entry.getValue().get("vertx");
+			Map<Mode, RunResult> rest = entry.getValue().get("rest");
+			if (vertx == null || rest == null) {
+				continue;
+			}
+
+			double vertxThroughput = vertx.get(Mode.Throughput).getPrimaryResult().getScore() * 1000;
+			double restThroughput = rest.get(Mode.Throughput).getPrimaryResult().getScore() * 1000;
+
+			Statistics vertxLatency = vertx.get(Mode.SampleTime).getPrimaryResult().getStatistics();
+			Statistics restLatency = rest.get(Mode.SampleTime).getPrimaryResult().getStatistics();
+
+			System.out.println(String.format("%-12s %14.1f %14.1f %8.1f%% %22s %22s %22s",
+			                                 entry.getKey(),
+			                                 vertxThroughput,
+			                                 restThroughput,
+			                                 (vertxThroughput - restThroughput) / vertxThroughput * 100,
+			                                 percentile(vertxLatency, restLatency, 50),
+			                                 percentile(vertxLatency, restLatency, 99),
+			                                 percentile(vertxLatency, restLatency, 99.9)));
+		}
+	}
+
+	/**
+	 * @return vert.x / REST latency and difference
+	 */
+	private static String percentile(Statistics vertx, Statistics rest, double percentile) {
+
+		double vertxLatency = vertx.getPercentile(percentile);
+		double restLatency = rest.getPercentile(percentile);
+		return String.format("%.0f / %.0f (%+.0f)", vertxLatency, restLatency, restLatency - vertxLatency);
+	}
+}
@@ -0,0 +1,83 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.RestRouter;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full request round trip through local server and REST registered with {@link RestRouter}:
+ * routing, argument extraction, invocation, response writing and exception handling
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundTripBenchmark {
+
+	private static final String JSON = "{\"name\": \"test\", \"value\": \"42\"}";
+
+	private LocalServer server;
+
+	private MultiMap json;
+
+	@Setup
+	public void setup() throws Exception {
+
+		server = new LocalServer();
+		RestRouter.register(server.router(), new BenchmarkRest());
+		server.start();
+
+		json = MultiMap.caseInsensitiveMultiMap().add("Content-Type", "application/json");
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		server.close();
+	}
+
+	@Benchmark
+	public Buffer text() throws Exception {
+
+		return check(server.request(HttpMethod.GET, "/bench/text", null, null), 200);
+	}
+
+	@Benchmark
+	public Buffer pathParam() throws Exception {
+
+		return check(server.request(HttpMethod.GET, "/bench/path/42", null, null), 200);
+	}
+
+	@Benchmark
+	public Buffer queryParam() throws Exception {
+
+		return check(server.request(HttpMethod.GET, "/bench/query?value=42", null, null), 200);
+	}
+
+	@Benchmark
+	public Buffer jsonBody() throws Exception {
+
+		return check(server.request(HttpMethod.POST, "/bench/body", json, JSON), 200);
+	}
+
+	@Benchmark
+	public Buffer exception() throws Exception {
+
+		return check(server.request(HttpMethod.GET, "/bench/error", null, null), 400);
+	}
+
+	private static Buffer check(LocalServer.Response response, int status) {
+
+		if (response.status != status) { // make sure what is measured
+			throw new IllegalStateException("Expected status: " + status + ", but got: " + response.status);
+		}
+
+		return response.body;
+	}
+}
@@ -0,0 +1,93 @@
+package com.zandero.rest.cache;
+
+import com.zandero.rest.test.data.SimulatedUser;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class AuthorizationCacheTest {
+
+	@Test
+	void roleSetTest() {
+
+		assertEquals(AuthorizationCache.getRoles(new String[]{"two", "one"}), AuthorizationCache.getRoles(new String[]{"one", "two"}));
+		assertNotEquals(AuthorizationCache.getRoles(new String[]{"one"}), AuthorizationCache.getRoles(new String[]{"one", "two"}));
+	}
+
+	@Test
+	void expireTest() throws InterruptedException {
+
+		AuthorizationCache cache = new AuthorizationCache(20, 10, user -> ((SimulatedUser) user).getRole());
+		String key = cache.getKey(new SimulatedUser("user"), "user");
+
+		assertNull(cache.get(key));
+		cache.put(key, true, 1000);
+		assertEquals(Boolean.TRUE, cache.get(key));
+
+		Thread.sleep(40);
+		assertNull(cache.get(key));
+
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(1 / 3d, cache.getHitRatio(), 0.001);
+	}
+
+	@Test
+	void evictTest() {
+
+		AuthorizationCache cache = new AuthorizationCache(60_000, 2);
+
+		cache.put("a", true, 1000);
+		cache.put("b", false, 1000);
+		cache.get("a"); // b is least recently used
+		cache.put("c", true, 1000);
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertEquals(Boolean.TRUE, cache.get("a"));
+		assertNull(cache.get("b"));
+	}
+
+	@Test
+	void identityTest() {
+
+		// decisions of users without identity are not cached
+		AuthorizationCache cache = new AuthorizationCache(60_000, 10, user -> null);
+		assertNull(cache.getKey(new SimulatedUser("user"), "user"));
+
+		cache = new AuthorizationCache(60_000, 10, user -> ((SimulatedUser) user).getRole());
+		cache.put(cache.getKey(new SimulatedUser("user"), "user"), true, 1000);
+		cache.put(cache.getKey(new SimulatedUser("user"), "admin"), false, 1000);
+		cache.put(cache.getKey(new SimulatedUser("admin"), "admin"), true, 1000);
+
+		cache.invalidate("user");
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void defaultIdentityTest() {
+
+		assertEquals("user", AuthorizationCache.getPrincipal(new SimulatedUser("user") {
+			@Override
+			public JsonObject principal() {
+				return super.principal().put("username", "user");
+			}
+		}));
+
+		// subject is preferred, other (changing) principal values are ignored
+		assertEquals("42", AuthorizationCache.getPrincipal(new SimulatedUser("user") {
+			@Override
+			public JsonObject principal() {
+				return super.principal().put("sub", 42).put("username", "user").put("exp", System.currentTimeMillis());
+			}
+		}));
+
+		// no stable identity ... not cached
+		assertNull(AuthorizationCache.getPrincipal(new SimulatedUser("user")));
+		assertNull(new AuthorizationCache(60_000, 10).getKey(new SimulatedUser("user"), "user"));
+	}
+}
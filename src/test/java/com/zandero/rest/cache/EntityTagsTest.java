@@ -0,0 +1,32 @@
+package com.zandero.rest.cache;
+
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ *
+ */
+class EntityTagsTest {
+
+	@Test
+	void tagTest() {
+
+		assertEquals("\"098f6bcd4621d373cade4e832627b4f6\"", EntityTags.of(Buffer.buffer("test"), false)); // MD5 of "test"
+		assertEquals("W/\"098f6bcd4621d373cade4e832627b4f6\"", EntityTags.of(Buffer.buffer("test"), true));
+		assertEquals("\"d41d8cd98f00b204e9800998ecf8427e\"", EntityTags.of(Buffer.buffer(), false));
+	}
+
+	@Test
+	void compositeBufferTagTest() {
+
+		CompositeByteBuf composite = Unpooled.compositeBuffer();
+		composite.addComponent(true, Unpooled.copiedBuffer("te".getBytes()));
+		composite.addComponent(true, Unpooled.copiedBuffer("st".getBytes()));
+
+		assertEquals(EntityTags.of(Buffer.buffer("test"), false), EntityTags.of(Buffer.buffer(composite), false));
+	}
+}
@@ -0,0 +1,67 @@
+package com.zandero.rest.cache;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class ResponseCacheTest {
+
+	@Test
+	void isPathOfTest() {
+
+		assertTrue(ResponseCache.isPathOf("/items?|application/json", "/items"));
+		assertTrue(ResponseCache.isPathOf("/items/1?|application/json", "/items"));
+		assertTrue(ResponseCache.isPathOf("/items/1?|application/json", "/items/"));
+		assertFalse(ResponseCache.isPathOf("/itemsList?|application/json", "/items"));
+
+		// path equal to or longer than key
+		assertFalse(ResponseCache.isPathOf("/items?", "/items?"));
+		assertFalse(ResponseCache.isPathOf("/items?", "/items?|application/json"));
+	}
+
+	@Test
+	void evictLeastRecentlyUsedTest() throws InterruptedException {
+
+		ResponseCache cache = new ResponseCache("test", 10_000, 2, 1024);
+
+		cache.put("one", 200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("1"));
+		Thread.sleep(1);
+		cache.put("two", 200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("2"));
+		Thread.sleep(1);
+
+		assertNotNull(cache.get("one")); // two is least recently used
+		cache.put("three", 200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("3"));
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertEquals(2, cache.getBytes());
+
+		assertNotNull(cache.get("one"));
+		assertNull(cache.get("two"));
+		assertNotNull(cache.get("three"));
+	}
+
+	@Test
+	void evictBySizeTest() {
+
+		ResponseCache cache = new ResponseCache("test", 10_000, 10, 10);
+
+		cache.put("one", 200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("12345"));
+		cache.put("one", 200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("123456")); // replaced
+		assertEquals(6, cache.getBytes());
+
+		cache.put("two", 200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("12345"));
+		assertEquals(1, cache.size());
+		assertEquals(5, cache.getBytes());
+		assertNull(cache.get("one"));
+
+		cache.invalidate();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getBytes());
+	}
+}
@@ -0,0 +1,100 @@
+package com.zandero.rest.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class GradientLimitTest {
+
+	private static final long MILLI = 1_000_000L;
+
+	@Test
+	void growWhileLatencyIsStableTest() {
+
+		GradientLimit limit = new GradientLimit(10, 1, 100);
+
+		for (int index = 0; index < 100; index++) {
+			limit.onSample(10 * MILLI, limit.getLimit(), false);
+		}
+
+		assertTrue(limit.getLimit() > 10);
+		assertTrue(limit.getLimit() <= 100);
+	}
+
+	@Test
+	void notEnoughLoadTest() {
+
+		GradientLimit limit = new GradientLimit(10, 1, 100);
+
+		for (int index = 0; index < 100; index++) {
+			limit.onSample(10 * MILLI, 1, false);
+		}
+
+		assertEquals(10, limit.getLimit());
+	}
+
+	@Test
+	void shrinkOnRisingLatencyTest() {
+
+		GradientLimit limit = new GradientLimit(50, 1, 100);
+
+		for (int index = 0; index < 100; index++) {
+			limit.onSample(10 * MILLI, limit.getLimit(), false);
+		}
+
+		int stable = limit.getLimit();
+
+		// requests start to queue up
+		for (int index = 0; index < 20; index++) {
+			limit.onSample(100 * MILLI, limit.getLimit(), false);
+		}
+
+		assertTrue(limit.getLimit() < stable, "Expected limit below: " + stable + ", but got: " + limit.getLimit());
+	}
+
+	@Test
+	void dropTest() {
+
+		GradientLimit limit = new GradientLimit(50, 10, 100);
+
+		limit.onSample(10 * MILLI, 50, true);
+		assertEquals(45, limit.getLimit());
+
+		for (int index = 0; index < 100; index++) {
+			limit.onSample(10 * MILLI, 50, true);
+		}
+
+		assertEquals(10, limit.getLimit());
+	}
+
+	@Test
+	void limiterFollowsLimitTest() {
+
+		GradientLimit limit = new GradientLimit(2, 1, 10);
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", limit, 0, 0, 1);
+
+		AtomicInteger acquired = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		for (int index = 0; index < 3; index++) {
+			limiter.acquire(null, v -> acquired.incrementAndGet(), v -> rejected.incrementAndGet());
+		}
+
+		assertEquals(2, acquired.get());
+		assertEquals(1, rejected.get());
+		assertEquals(2, limiter.getInFlight());
+
+		limiter.release(1, true); // dropped ... limit lowered
+		assertEquals(1, limiter.getLimit());
+		assertEquals(1, limiter.getInFlight());
+
+		limiter.acquire(null, v -> acquired.incrementAndGet(), v -> rejected.incrementAndGet());
+		assertEquals(2, rejected.get());
+		assertEquals(2, limiter.getRejected());
+	}
+}
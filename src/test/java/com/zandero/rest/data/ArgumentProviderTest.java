@@ -0,0 +1,82 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.AnnotationProcessor;
+import com.zandero.rest.context.ContextProviderFactory;
+import com.zandero.rest.reader.IntegerBodyReader;
+import com.zandero.rest.reader.ReaderFactory;
+import com.zandero.rest.test.TestContextRest;
+import com.zandero.rest.test.TestQueryRest;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class ArgumentProviderTest {
+
+	private final ReaderFactory readers = new ReaderFactory();
+
+	private final ContextProviderFactory providers = new ContextProviderFactory();
+
+	@Test
+	void compileQueryArgumentsTest() throws NoSuchMethodException {
+
+		Method method = TestQueryRest.class.getMethod("add", int.class, int.class);
+		RouteDefinition definition = find(TestQueryRest.class, method);
+
+		ArgumentExtractor[] extractors = ArgumentProvider.compile(method, definition, readers, providers);
+		assertEquals(2, extractors.length);
+
+		assertTrue(extractors[0] instanceof ValueArgumentExtractor);
+		assertTrue(extractors[1] instanceof ValueArgumentExtractor);
+
+		assertTrue(extractors[0].isRequired());
+		assertEquals("Missing @QueryParam(\"one\") for: /query/add", extractors[0].missing().getMessage());
+	}
+
+	@Test
+	void compileContextArgumentsTest() throws NoSuchMethodException {
+
+		Method method = TestContextRest.class.getMethod("getRoute", HttpServerResponse.class, HttpServerRequest.class);
+		RouteDefinition definition = find(TestContextRest.class, method);
+
+		ArgumentExtractor[] extractors = ArgumentProvider.compile(method, definition, readers, providers);
+		assertEquals(2, extractors.length);
+
+		assertTrue(extractors[0] instanceof ContextArgumentExtractor);
+		assertTrue(extractors[1] instanceof ContextArgumentExtractor);
+		assertFalse(extractors[0].isRequired());
+	}
+
+	@Test
+	void factoryVersionTest() {
+
+		int version = readers.getVersion();
+
+		readers.register(Integer.class, IntegerBodyReader.class);
+		assertNotEquals(version, readers.getVersion());
+
+		version = readers.getVersion();
+		readers.clear();
+		assertNotEquals(version, readers.getVersion());
+	}
+
+	private static RouteDefinition find(Class<?> clazz, Method method) {
+
+		Map<RouteDefinition, Method> definitions = AnnotationProcessor.get(clazz);
+		for (RouteDefinition definition : definitions.keySet()) {
+			if (definitions.get(definition).equals(method)) {
+				return definition;
+			}
+		}
+
+		fail("Missing route definition for: " + method);
+		return null;
+	}
+}
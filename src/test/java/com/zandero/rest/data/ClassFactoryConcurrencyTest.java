@@ -0,0 +1,145 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.reader.ReaderFactory;
+import com.zandero.rest.reader.ValueReader;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.rest.writer.WriterFactory;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test of class factory caches under concurrent access
+ */
+class ClassFactoryConcurrencyTest {
+
+	private static final int THREADS = 16;
+
+	private static final int ROUNDS = 1000;
+
+	private static final AtomicInteger writerInstances = new AtomicInteger();
+
+	private static final AtomicInteger readerInstances = new AtomicInteger();
+
+	public static class CountingWriter implements HttpResponseWriter<String> {
+
+		public CountingWriter() {
+			writerInstances.incrementAndGet();
+			sleep(); // make race window wider
+		}
+
+		@Override
+		public void write(String result, HttpServerRequest request, HttpServerResponse response) {
+		}
+	}
+
+	public static class CountingReader implements ValueReader<String> {
+
+		public CountingReader() {
+			readerInstances.incrementAndGet();
+			sleep();
+		}
+
+		@Override
+		public String read(String value, Class<String> type) {
+			return value;
+		}
+	}
+
+	@Test
+	void singletonWriterTest() throws Exception {
+
+		WriterFactory writers = new WriterFactory();
+		writerInstances.set(0);
+
+		Set<Object> instances = run(ROUNDS, () -> writers.getClassInstance(CountingWriter.class, null, null));
+
+		assertEquals(1, writerInstances.get());
+		assertEquals(1, instances.size());
+	}
+
+	@Test
+	void singletonReaderTest() throws Exception {
+
+		ReaderFactory readers = new ReaderFactory();
+		readerInstances.set(0);
+
+		Set<Object> instances = run(ROUNDS, () -> readers.getClassInstance(CountingReader.class, null, null));
+
+		assertEquals(1, readerInstances.get());
+		assertEquals(1, instances.size());
+	}
+
+	@Test
+	void registerWhileReadingTest() throws Exception {
+
+		WriterFactory writers = new WriterFactory();
+		int defaults = writers.mediaTypes.size();
+
+		// registrations while other threads resolve writers must not fail or lose entries
+		Set<Object> instances = run(10, () -> {
+			writers.register(Thread.currentThread().getName(), CountingWriter.class);
+			return writers.get(Response.class);
+		});
+
+		assertEquals(1, instances.size());
+		assertEquals(THREADS + defaults, writers.mediaTypes.size());
+	}
+
+	private static Set<Object> run(int rounds, Callable<Object> task) throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setName("type/thread-" + thread.getId()); // used as media type
+			return thread;
+		});
+
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			Set<Object> instances = ConcurrentHashMap.newKeySet();
+
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < THREADS; thread++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int round = 0; round < rounds; round++) {
+						Object instance = task.call();
+						if (instance != null) {
+							instances.add(instance);
+						}
+					}
+					return null;
+				}));
+			}
+
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+
+			return instances;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(10);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.exception.ConstraintException;
+import com.zandero.rest.test.TestValidRest;
+import com.zandero.rest.test.json.ValidDummy;
+import org.hibernate.validator.HibernateValidator;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class MethodValidatorTest {
+
+	private final Validator validator = Validation.byProvider(HibernateValidator.class)
+	                                              .configure()
+	                                              .buildValidatorFactory()
+	                                              .getValidator();
+
+	private final TestValidRest rest = new TestValidRest();
+
+	@Test
+	void unconstrainedTest() throws NoSuchMethodException {
+
+		assertNull(create(TestValidRest.class.getMethod("thatOne", String.class)));
+		assertNull(create(TestValidRest.class.getMethod("list")));
+
+		// no validator ... nothing to validate
+		assertNull(MethodValidator.create(null, rest, TestValidRest.class.getMethod("thisOne", String.class), null));
+	}
+
+	@Test
+	void constrainedParametersTest() throws NoSuchMethodException {
+
+		MethodValidator validation = create(TestValidRest.class.getMethod("thisOne", String.class));
+		assertNotNull(validation);
+		assertNotNull(validation.getDescriptor());
+		assertTrue(validation.validatesParameters());
+		assertFalse(validation.validatesReturnValue());
+
+		validation.validateParameters(new Object[]{"one"});
+		assertThrows(ConstraintException.class, () -> validation.validateParameters(new Object[]{null}));
+	}
+
+	@Test
+	void cascadedParametersTest() throws NoSuchMethodException {
+
+		MethodValidator validation = create(TestValidRest.class.getMethod("echo", ValidDummy.class));
+		assertNotNull(validation);
+		assertTrue(validation.validatesParameters());
+		assertFalse(validation.validatesReturnValue());
+	}
+
+	@Test
+	void constrainedResultTest() throws NoSuchMethodException {
+
+		MethodValidator validation = create(TestValidRest.class.getMethod("resultTest", String.class));
+		assertNotNull(validation);
+		assertFalse(validation.validatesParameters());
+		assertTrue(validation.validatesReturnValue());
+
+		validation.validateReturnValue(5);
+		assertThrows(ConstraintException.class, () -> validation.validateReturnValue(11));
+		assertThrows(ConstraintException.class, () -> validation.validateReturnValue(null));
+	}
+
+	@Test
+	void routeValidatorTest() throws NoSuchMethodException {
+
+		Method method = TestValidRest.class.getMethod("thisOne", String.class);
+		RouteValidator route = new RouteValidator(rest, method, new RouteDefinition(new RouteDefinition(TestValidRest.class), method));
+
+		// validator given after route is registered
+		assertNull(route.get(null));
+
+		MethodValidator validation = route.get(validator);
+		assertNotNull(validation);
+		assertSame(validation, route.get(validator)); // constraints looked up once per validator
+
+		Validator other = Validation.byProvider(HibernateValidator.class).configure().buildValidatorFactory().getValidator();
+		MethodValidator changed = route.get(other);
+		assertNotNull(changed);
+		assertNotSame(validation, changed);
+
+		assertNull(route.get(null));
+	}
+
+	private MethodValidator create(Method method) {
+
+		RouteDefinition definition = new RouteDefinition(new RouteDefinition(TestValidRest.class), method);
+		return MethodValidator.create(validator, rest, method, definition);
+	}
+}
@@ -0,0 +1,33 @@
+package com.zandero.rest.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of JAX-RS paths into vert.x paths (placed next to package private PathConverter)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathConverterBenchmark {
+
+	@Param({"/items", "/items/{id}/parts/{part}", "/items/{id:\\d+}/{name:[a-z]+}"})
+	public String path;
+
+	@Benchmark
+	public String convert() {
+
+		return PathConverter.convert(path);
+	}
+
+	@Benchmark
+	public List<MethodParameter> extract() {
+
+		return PathConverter.extract(path);
+	}
+}
@@ -184,4 +184,33 @@ class ExceptionHandlerFactoryTest {
         assertEquals("Exception handler for: java.lang.IllegalArgumentException " +
                 "already registered with: com.zandero.rest.test.handler.ContextExceptionHandler", e.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resolvedHandlerCache() throws Exception {
+
+        Class<? extends ExceptionHandler>[] definitionHandlers = new Class[]{IllegalArgumentExceptionHandler.class};
+
+        // resolved once ... same type returned per route handlers and exception type
+        assertEquals(GenericExceptionHandler.class, factory.resolve(BaseException.class, null));
+        assertEquals(GenericExceptionHandler.class, factory.resolve(BaseException.class, null));
+        assertEquals(IllegalArgumentExceptionHandler.class, factory.resolve(IllegalArgumentException.class, definitionHandlers));
+        assertEquals(IllegalArgumentExceptionHandler.class, factory.resolve(IllegalArgumentException.class, new Class[]{IllegalArgumentExceptionHandler.class}));
+        assertEquals(GenericExceptionHandler.class, factory.resolve(IllegalArgumentException.class, null));
+
+        // registration invalidates resolved handlers
+        factory.register(BaseExceptionHandler.class);
+        assertEquals(BaseExceptionHandler.class, factory.resolve(BaseException.class, null));
+        assertTrue(factory.getExceptionHandler(BaseException.class, null, null, null) instanceof BaseExceptionHandler);
+    }
+
+    @Test
+    void stacklessExceptions() {
+
+        assertEquals(0, new ExecuteException(401, "HTTP 401 Unauthorized", false).getStackTrace().length);
+        assertEquals(0, new ConcurrencyLimitException(null, 1).getStackTrace().length);
+        assertEquals(0, new RequestTimeoutException(null, 10).getStackTrace().length);
+
+        assertTrue(new ExecuteException(405, "HTTP 405 Method Not Allowed").getStackTrace().length > 0);
+    }
+}
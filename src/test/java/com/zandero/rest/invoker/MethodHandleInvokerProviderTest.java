@@ -0,0 +1,73 @@
+package com.zandero.rest.invoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class MethodHandleInvokerProviderTest {
+
+	private final InvokerProvider provider = new MethodHandleInvokerProvider();
+
+	public static class Target {
+
+		public String echo() {
+			return "echo";
+		}
+
+		public int add(int one, int two) {
+			return one + two;
+		}
+
+		public String join(String a, String b, String c, String d, String e) {
+			return a + b + c + d + e;
+		}
+
+		public void nothing(String value) {
+		}
+
+		public String fail(String value) {
+			throw new IllegalStateException(value);
+		}
+
+		public static String hello(String name) {
+			return "Hello " + name;
+		}
+	}
+
+	private final Target target = new Target();
+
+	@Test
+	void invokeTest() throws Throwable {
+
+		assertEquals("echo", bind("echo").invoke(null));
+		assertEquals(3, bind("add", int.class, int.class).invoke(new Object[]{1, 2}));
+		assertEquals("12345", bind("join", String.class, String.class, String.class, String.class, String.class)
+			                      .invoke(new Object[]{"1", "2", "3", "4", "5"}));
+
+		assertNull(bind("nothing", String.class).invoke(new Object[]{"test"}));
+		assertEquals("Hello world", bind("hello", String.class).invoke(new Object[]{"world"}));
+	}
+
+	@Test
+	void exceptionIsNotWrappedTest() throws NoSuchMethodException {
+
+		MethodInvoker invoker = bind("fail", String.class);
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> invoker.invoke(new Object[]{"bang"}));
+		assertEquals("bang", e.getMessage());
+
+		MethodInvoker reflection = new ReflectionInvokerProvider().bind(target, Target.class.getMethod("fail", String.class));
+		e = assertThrows(IllegalStateException.class, () -> reflection.invoke(new Object[]{"bang"}));
+		assertEquals("bang", e.getMessage());
+	}
+
+	private MethodInvoker bind(String name, Class<?>... parameters) throws NoSuchMethodException {
+
+		Method method = Target.class.getMethod(name, parameters);
+		return provider.bind(target, method);
+	}
+}
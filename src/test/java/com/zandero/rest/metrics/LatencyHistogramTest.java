@@ -0,0 +1,59 @@
+package com.zandero.rest.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class LatencyHistogramTest {
+
+	@Test
+	void bucketsTest() {
+
+		// every value falls into bucket covering it and bucket precision is within 1/16
+		for (long value = 0; value < 1_000_000; value = value + 1 + value / 7) {
+
+			int index = LatencyHistogram.index(value);
+			long highest = LatencyHistogram.highestValue(index);
+
+			assertTrue(highest >= value, "value: " + value);
+			assertTrue(highest - value <= value / 16, "value: " + value);
+			assertTrue(index == 0 || LatencyHistogram.highestValue(index - 1) < value, "value: " + value);
+		}
+
+		assertTrue(LatencyHistogram.index(LatencyHistogram.MAX_VALUE) < (40 - 4 + 1) * 16);
+	}
+
+	@Test
+	void percentileTest() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentile(99));
+
+		for (long value = 1; value <= 1000; value++) {
+			histogram.record(value * 1000);
+		}
+
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1_000_000, histogram.getMax());
+		assertEquals(500_500, histogram.getMean(), 0.001);
+
+		assertEquals(500_000, histogram.getPercentile(50), 500_000 / 16);
+		assertEquals(990_000, histogram.getPercentile(99), 990_000 / 16);
+		assertEquals(1_000_000, histogram.getPercentile(100));
+	}
+
+	@Test
+	void outOfRangeTest() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-1);
+		histogram.record(Long.MAX_VALUE);
+
+		assertEquals(2, histogram.getCount());
+		assertEquals(LatencyHistogram.MAX_VALUE, histogram.getMax());
+		assertEquals(0, histogram.getPercentile(50));
+	}
+}
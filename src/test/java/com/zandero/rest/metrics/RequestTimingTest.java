@@ -0,0 +1,51 @@
+package com.zandero.rest.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class RequestTimingTest {
+
+	@Test
+	void serverTimingTest() {
+
+		RequestTiming timing = new RequestTiming();
+		assertEquals("", timing.toServerTiming());
+
+		timing.add(Phase.invoke, 1_500_000);
+		timing.add(Phase.arguments, 20_000);
+		timing.add(Phase.invoke, 500_000);
+
+		assertTrue(timing.isTimed(Phase.invoke));
+		assertFalse(timing.isTimed(Phase.queue));
+		assertEquals(2_000_000, timing.getDuration(Phase.invoke));
+
+		// in phase order
+		assertEquals("arguments;dur=0.020, invoke;dur=2.000", timing.toServerTiming());
+	}
+
+	@Test
+	void notSampledTest() {
+
+		assertEquals(0, RequestTiming.mark(null));
+		RequestTiming.record(null, Phase.invoke, 0); // nothing to do
+	}
+
+	@Test
+	void recordPhasesTest() {
+
+		RouteMetrics metrics = new RouteMetrics("GET /test");
+		assertNull(metrics.getPhase(Phase.invoke));
+
+		RequestTiming timing = new RequestTiming();
+		timing.add(Phase.invoke, 1_000_000);
+		metrics.record(timing);
+
+		assertEquals(1, metrics.getPhase(Phase.invoke).getCount());
+		assertEquals(0, metrics.getPhase(Phase.write).getCount());
+		assertTrue(metrics.toString().contains("\n  invoke samples=1 mean=1.000ms"), metrics.toString());
+	}
+}
@@ -2,10 +2,13 @@ package com.zandero.rest.reader;
 
 import com.zandero.rest.test.json.Dummy;
 import com.zandero.utils.extra.JsonUtils;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  *
@@ -27,4 +30,30 @@ public class JsonBodyReaderTest {
 		assertEquals("Hello", dummy.name);
 		assertEquals("World", dummy.value);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void convertBufferToJson() {
+
+		JsonValueReader<Dummy> reader = new JsonValueReader<>();
+
+		Dummy dummy = reader.read(Buffer.buffer("{\"name\":\"Hello\",\"value\":\"World\"}"), Dummy.class);
+		assertEquals("Hello", dummy.name);
+		assertEquals("World", dummy.value);
+
+		// direct (not array backed) buffer
+		byte[] bytes = "{\"name\":\"Direct\"}".getBytes(StandardCharsets.UTF_8);
+		Buffer direct = Buffer.buffer(Unpooled.directBuffer().writeBytes(bytes));
+		assertEquals("Direct", reader.read(direct, Dummy.class).name);
+
+		assertNull(reader.read(Buffer.buffer(" \n "), Dummy.class));
+		assertNull(reader.read((Buffer) null, Dummy.class));
+	}
+
+	@Test
+	public void invalidBufferJson() {
+
+		JsonValueReader<Dummy> reader = new JsonValueReader<>();
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> reader.read(Buffer.buffer("{\"name\":"), Dummy.class));
+		assertTrue(e.getMessage().startsWith("Given JSON could not be deserialized. Error: "));
+	}
+}
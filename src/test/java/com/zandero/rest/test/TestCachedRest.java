@@ -0,0 +1,73 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.Cached;
+import com.zandero.rest.annotation.ETag;
+import com.zandero.rest.annotation.Header;
+import com.zandero.rest.test.json.Dummy;
+import io.vertx.core.http.HttpServerResponse;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ */
+@Path("cached")
+@Produces(MediaType.APPLICATION_JSON)
+public class TestCachedRest {
+
+	public static final AtomicInteger invoked = new AtomicInteger();
+
+	@Cached(key = "id")
+	@Header("X-Cached: yes")
+	@GET
+	@Path("item/{id}")
+	public Dummy item(@PathParam("id") String id, @QueryParam("ignored") String ignored) {
+		return new Dummy(id, "" + invoked.incrementAndGet());
+	}
+
+	@Cached(maxEntries = 2)
+	@GET
+	@Path("query")
+	public Dummy query(@QueryParam("name") String name) {
+		return new Dummy(name, "" + invoked.incrementAndGet());
+	}
+
+	@Cached
+	@ETag
+	@GET
+	@Path("tagged")
+	public Dummy tagged() {
+		return new Dummy("tagged", "" + invoked.incrementAndGet());
+	}
+
+	@Cached
+	@GET
+	@Path("fail")
+	public Dummy fail() {
+		invoked.incrementAndGet();
+		throw new IllegalArgumentException("Failed");
+	}
+
+	@Cached
+	@GET
+	@Path("multi")
+	public Dummy multi(@Context HttpServerResponse response) {
+		response.headers().add("X-Multi", "one").add("X-Multi", "two");
+		return new Dummy("multi", "" + invoked.incrementAndGet());
+	}
+
+	@Cached
+	@GET
+	@Path("cookie")
+	public Dummy cookie(@Context HttpServerResponse response) {
+		response.putHeader("Set-Cookie", "session=" + invoked.incrementAndGet());
+		return new Dummy("cookie", "" + invoked.get());
+	}
+}
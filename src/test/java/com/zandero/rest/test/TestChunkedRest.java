@@ -0,0 +1,69 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.ResponseWriter;
+import com.zandero.rest.test.data.CountingReadStream;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.rest.writer.JsonStreamResponseWriter;
+import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ *
+ */
+@Path("chunked")
+@Produces(MediaType.APPLICATION_JSON)
+public class TestChunkedRest {
+
+	@GET
+	@Path("stream")
+	public Stream<Dummy> stream(@QueryParam("count") int count) {
+
+		return IntStream.range(0, count).mapToObj(index -> new Dummy("name" + index, "value" + index));
+	}
+
+	@GET
+	@Path("iterator")
+	public Iterator<Integer> iterator() {
+
+		return Arrays.asList(1, 2, 3).iterator();
+	}
+
+	@GET
+	@Path("iterable")
+	@ResponseWriter(JsonStreamResponseWriter.class)
+	public Iterable<String> iterable() {
+
+		return Collections.emptyList();
+	}
+
+	@GET
+	@Path("read")
+	public ReadStream<Integer> readStream(@QueryParam("count") int count, @Context Vertx vertx) {
+
+		return new CountingReadStream(vertx.getOrCreateContext(), count);
+	}
+
+	@GET
+	@Path("fail")
+	public Stream<String> fail() {
+
+		return Stream.of("one", "two").map(value -> {
+			if ("two".equals(value)) {
+				throw new IllegalStateException("Failed");
+			}
+			return value;
+		});
+	}
+}
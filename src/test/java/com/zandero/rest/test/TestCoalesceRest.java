@@ -0,0 +1,54 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.Coalesce;
+import com.zandero.rest.annotation.Header;
+import com.zandero.rest.test.json.Dummy;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ */
+@Path("coalesce")
+@Produces(MediaType.APPLICATION_JSON)
+public class TestCoalesceRest {
+
+	public static final AtomicInteger invoked = new AtomicInteger();
+
+	@Coalesce(key = "id")
+	@Header("X-Shared: yes")
+	@GET
+	@Path("item/{id}")
+	public Dummy item(@PathParam("id") String id, @QueryParam("ignored") String ignored) throws InterruptedException {
+
+		int count = invoked.incrementAndGet();
+		Thread.sleep(500);
+		return new Dummy(id, "" + count);
+	}
+
+	@Coalesce
+	@GET
+	@Path("fail")
+	public Dummy fail() throws InterruptedException {
+
+		invoked.incrementAndGet();
+		Thread.sleep(500);
+		throw new IllegalArgumentException("Failed");
+	}
+
+	@Coalesce(timeout = 100)
+	@GET
+	@Path("slow")
+	public Dummy slow() throws InterruptedException {
+
+		int count = invoked.incrementAndGet();
+		Thread.sleep(500);
+		return new Dummy("slow", "" + count);
+	}
+}
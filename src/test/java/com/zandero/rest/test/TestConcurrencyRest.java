@@ -0,0 +1,72 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.CatchWith;
+import com.zandero.rest.annotation.MaxConcurrency;
+import com.zandero.rest.test.handler.MyOtherExceptionHandler;
+import io.vertx.core.http.HttpServerResponse;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Context;
+
+/**
+ *
+ */
+@Path("limited")
+public class TestConcurrencyRest {
+
+	@MaxConcurrency(limit = 1, retryAfter = 5)
+	@GET
+	@Path("reject/{id}")
+	public String reject(@PathParam("id") String id) throws InterruptedException {
+
+		Thread.sleep(500);
+		return id;
+	}
+
+	@MaxConcurrency(limit = 1, queue = 2, queueTimeout = 0)
+	@GET
+	@Path("queue/{id}")
+	public String queue(@PathParam("id") String id) throws InterruptedException {
+
+		Thread.sleep(200);
+		return id;
+	}
+
+	@MaxConcurrency(limit = 1, queue = 1, queueTimeout = 100)
+	@GET
+	@Path("timeout/{id}")
+	public String timeout(@PathParam("id") String id) throws InterruptedException {
+
+		Thread.sleep(500);
+		return id;
+	}
+
+	@MaxConcurrency(limit = 1, retryAfter = 2)
+	@CatchWith(MyOtherExceptionHandler.class) // catch all handler
+	@GET
+	@Path("catch/{id}")
+	public String catchAll(@PathParam("id") String id) throws InterruptedException {
+
+		Thread.sleep(500);
+		return id;
+	}
+
+	@MaxConcurrency(limit = 1)
+	@GET
+	@Path("handler/{id}")
+	public String handler(@PathParam("id") String id, @Context HttpServerResponse response) {
+
+		response.endHandler(v -> {}); // replaces any response end handler
+		return id;
+	}
+
+	@MaxConcurrency(limit = 4, adaptive = true)
+	@GET
+	@Path("adaptive/{id}")
+	public String adaptive(@PathParam("id") String id) {
+
+		return id;
+	}
+}
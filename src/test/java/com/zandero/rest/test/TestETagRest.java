@@ -0,0 +1,50 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.ETag;
+import com.zandero.rest.test.data.VersionProvider;
+import com.zandero.rest.test.json.Dummy;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ */
+@ETag
+@Path("etag")
+@Produces(MediaType.APPLICATION_JSON)
+public class TestETagRest {
+
+	public static final AtomicInteger invoked = new AtomicInteger();
+
+	@GET
+	@Path("dummy")
+	public Dummy dummy(@QueryParam("name") String name) {
+		return new Dummy(name, "value");
+	}
+
+	@ETag(weak = true)
+	@GET
+	@Path("weak")
+	public Dummy weak() {
+		return new Dummy("weak", "value");
+	}
+
+	@ETag(version = VersionProvider.class)
+	@GET
+	@Path("version")
+	public Dummy version(@QueryParam("version") String version) {
+		invoked.incrementAndGet();
+		return new Dummy("version", version);
+	}
+
+	@GET
+	@Path("fail")
+	public Dummy fail() {
+		throw new IllegalArgumentException("Failed");
+	}
+}
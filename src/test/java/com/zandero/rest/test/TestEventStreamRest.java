@@ -0,0 +1,64 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.test.data.CountingReadStream;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.rest.writer.NdJsonResponseWriter;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.streams.ReadStream;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ *
+ */
+@Path("events")
+public class TestEventStreamRest {
+
+	@GET
+	@Path("numbers")
+	@Produces(MediaType.SERVER_SENT_EVENTS)
+	public ReadStream<Integer> numbers(@QueryParam("count") int count, @Context Vertx vertx) {
+
+		return new CountingReadStream(vertx.getOrCreateContext(), count);
+	}
+
+	@GET
+	@Path("lines")
+	@Produces(NdJsonResponseWriter.APPLICATION_NDJSON)
+	public Stream<Dummy> lines(@QueryParam("count") int count) {
+
+		return IntStream.range(0, count).mapToObj(index -> new Dummy("name" + index, "value" + index));
+	}
+
+	@GET
+	@Path("bus")
+	@Produces(MediaType.SERVER_SENT_EVENTS)
+	public MessageConsumer<String> bus(@Context Vertx vertx) {
+
+		return vertx.eventBus().consumer("test.events");
+	}
+
+	@GET
+	@Path("single")
+	@Produces(MediaType.SERVER_SENT_EVENTS)
+	public String single() {
+
+		return "not streamed";
+	}
+
+	@GET
+	@Path("dummy")
+	@Produces(NdJsonResponseWriter.APPLICATION_NDJSON)
+	public Dummy dummy() {
+
+		return new Dummy("name", "value");
+	}
+}
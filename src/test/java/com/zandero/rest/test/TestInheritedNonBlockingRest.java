@@ -0,0 +1,23 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.Blocking;
+import com.zandero.rest.annotation.NonBlocking;
+import io.vertx.core.Context;
+
+/**
+ *
+ */
+public class TestInheritedNonBlockingRest implements TestNonBlockingApi {
+
+	@NonBlocking(false) // overrides interface
+	@Override
+	public String worker() {
+		return "worker: " + Context.isOnEventLoopThread();
+	}
+
+	@Blocking // overrides interface
+	@Override
+	public String pool() {
+		return "pool: " + Context.isOnEventLoopThread();
+	}
+}
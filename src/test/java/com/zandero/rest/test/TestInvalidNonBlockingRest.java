@@ -0,0 +1,23 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.Blocking;
+import com.zandero.rest.annotation.NonBlocking;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+/**
+ *
+ */
+@Path("/invalid")
+public class TestInvalidNonBlockingRest {
+
+	@Blocking
+	@NonBlocking
+	@GET
+	@Path("/blocking")
+	public String blocking() {
+
+		return "not possible";
+	}
+}
@@ -0,0 +1,20 @@
+package com.zandero.rest.test;
+
+import io.vertx.core.streams.ReadStream;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+/**
+ *
+ */
+@Path("/invalid")
+public class TestInvalidStreamRest {
+
+	@Path("/stream")
+	@POST
+	public String stream(ReadStream<String> body) {
+
+		return "not possible";
+	}
+}
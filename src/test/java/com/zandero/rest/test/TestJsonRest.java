@@ -0,0 +1,61 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.ResponseWriter;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.rest.writer.ChunkedJsonResponseWriter;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *
+ */
+@Path("json")
+@Produces(MediaType.APPLICATION_JSON)
+public class TestJsonRest {
+
+	@GET
+	@Path("list")
+	public List<Dummy> list(@QueryParam("size") int size) {
+		return getList(size);
+	}
+
+	@GET
+	@Path("chunked")
+	@ResponseWriter(ChunkedJsonResponseWriter.class)
+	public List<Dummy> chunked(@QueryParam("size") int size) {
+		return getList(size);
+	}
+
+	@GET
+	@Path("failing")
+	@ResponseWriter(ChunkedJsonResponseWriter.class)
+	public List<Object> failing(@QueryParam("size") int size) {
+
+		List<Object> list = new ArrayList<>(getList(size));
+		list.add(new Failing()); // fails once first chunks are sent
+		return list;
+	}
+
+	public static class Failing {
+
+		public String getValue() {
+			throw new IllegalStateException("Failed to serialize");
+		}
+	}
+
+	private static List<Dummy> getList(int size) {
+
+		List<Dummy> list = new ArrayList<>();
+		for (int index = 0; index < size; index++) {
+			list.add(new Dummy("name" + index, "value" + index));
+		}
+
+		return list;
+	}
+}
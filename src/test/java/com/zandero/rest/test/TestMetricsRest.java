@@ -0,0 +1,26 @@
+package com.zandero.rest.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+/**
+ *
+ */
+@Path("measured")
+public class TestMetricsRest {
+
+	@GET
+	@Path("ok")
+	public String ok() {
+
+		return "ok";
+	}
+
+	@GET
+	@Path("fail/{value}")
+	public String fail(@PathParam("value") String value) {
+
+		throw new IllegalArgumentException("Invalid: " + value);
+	}
+}
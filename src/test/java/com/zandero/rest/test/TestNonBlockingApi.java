@@ -0,0 +1,22 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.NonBlocking;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+/**
+ *
+ */
+@NonBlocking
+@Path("inherited")
+public interface TestNonBlockingApi {
+
+	@GET
+	@Path("worker")
+	String worker();
+
+	@GET
+	@Path("pool")
+	String pool();
+}
@@ -0,0 +1,50 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.Blocking;
+import com.zandero.rest.annotation.NonBlocking;
+import io.vertx.core.Context;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+/**
+ *
+ */
+@NonBlocking
+@Path("non")
+public class TestNonBlockingRest {
+
+	@GET
+	@Path("blocking")
+	public String eventLoop(@QueryParam("name") String name) {
+		return name + ": " + Context.isOnEventLoopThread();
+	}
+
+	@NonBlocking(false)
+	@GET
+	@Path("worker")
+	public String worker() {
+		return "worker: " + Context.isOnEventLoopThread();
+	}
+
+	@Blocking // overrides class
+	@GET
+	@Path("pool")
+	public String pool() {
+		return "pool: " + Context.isOnEventLoopThread();
+	}
+
+	@GET
+	@Path("fail")
+	public String fail() {
+		throw new IllegalArgumentException("Failed on event loop");
+	}
+
+	@GET
+	@Path("slow")
+	public String slow() throws InterruptedException {
+		Thread.sleep(20); // exceeds guard
+		return "slow";
+	}
+}
@@ -0,0 +1,52 @@
+package com.zandero.rest.test;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *
+ */
+@Path("stream")
+public class TestStreamingRest {
+
+	@POST
+	@Path("count")
+	public Future<String> count(ReadStream<Buffer> body) {
+
+		Future<String> res = Future.future();
+
+		AtomicLong count = new AtomicLong();
+		body.handler(buffer -> count.addAndGet(buffer.length()))
+		    .endHandler(v -> res.complete("read: " + count.get()))
+		    .exceptionHandler(res::fail);
+
+		return res;
+	}
+
+	@POST
+	@Path("blocking")
+	public String blocking(ReadStream<Buffer> body) throws Exception {
+
+		CompletableFuture<Long> res = new CompletableFuture<>();
+
+		AtomicLong count = new AtomicLong();
+		body.endHandler(v -> res.complete(count.get()))
+		    .exceptionHandler(res::completeExceptionally)
+		    .handler(buffer -> count.addAndGet(buffer.length()));
+
+		return "read: " + res.get(); // wait on worker thread until whole body is read
+	}
+
+	@POST
+	@Path("ignore")
+	public String ignore(ReadStream<Buffer> body) {
+
+		return "ignored"; // body is never read
+	}
+}
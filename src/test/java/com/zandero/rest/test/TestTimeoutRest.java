@@ -0,0 +1,90 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.CatchWith;
+import com.zandero.rest.annotation.Timeout;
+import com.zandero.rest.context.Deadline;
+import com.zandero.rest.test.handler.MyOtherExceptionHandler;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *
+ */
+@Path("timeout")
+public class TestTimeoutRest {
+
+	public static final AtomicBoolean interrupted = new AtomicBoolean();
+
+	@Timeout(200)
+	@GET
+	@Path("blocking")
+	public String blocking() {
+
+		try {
+			Thread.sleep(5000);
+			return "late";
+		}
+		catch (InterruptedException e) {
+			interrupted.set(true);
+			return "interrupted";
+		}
+	}
+
+	@Timeout(100)
+	@GET
+	@Path("async")
+	public Future<String> async() {
+
+		return Future.future(); // never completed
+	}
+
+	@Timeout(100)
+	@CatchWith(MyOtherExceptionHandler.class) // catch all handler
+	@GET
+	@Path("catch")
+	public Future<String> catchAll() {
+
+		return Future.future(); // never completed
+	}
+
+	@Timeout(1000)
+	@GET
+	@Path("remaining")
+	public String remaining(@Context Deadline deadline) {
+
+		return deadline.getTimeout() + ":" + deadline.getRemaining();
+	}
+
+	@Timeout(0)
+	@GET
+	@Path("unlimited")
+	public String unlimited(@Context Deadline deadline) throws InterruptedException {
+
+		Thread.sleep(300);
+		return "" + deadline.getRemaining();
+	}
+
+	@GET
+	@Path("global")
+	public String global() throws InterruptedException {
+
+		Thread.sleep(5000);
+		return "late";
+	}
+
+	@GET
+	@Path("stream")
+	@Produces(MediaType.SERVER_SENT_EVENTS)
+	public MessageConsumer<String> stream(@Context Vertx vertx) {
+
+		return vertx.eventBus().consumer("test.timeout.events");
+	}
+}
@@ -0,0 +1,44 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.VirtualThread;
+import io.vertx.core.Context;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+/**
+ *
+ */
+@VirtualThread
+@Path("virtual")
+public class TestVirtualThreadRest {
+
+	@GET
+	@Path("thread")
+	public String thread(@QueryParam("name") String name) {
+		return name + ": " + getThread();
+	}
+
+	@VirtualThread(false)
+	@GET
+	@Path("worker")
+	public String worker() {
+		return getThread();
+	}
+
+	@GET
+	@Path("fail")
+	public String fail() {
+		throw new IllegalArgumentException("Failed on: " + getThread());
+	}
+
+	private static String getThread() {
+
+		if (Context.isOnEventLoopThread()) {
+			return "event loop";
+		}
+
+		return Thread.currentThread().toString().startsWith("VirtualThread") ? "virtual" : "worker";
+	}
+}
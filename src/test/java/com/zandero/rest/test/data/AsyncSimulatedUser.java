@@ -0,0 +1,39 @@
+package com.zandero.rest.test.data;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simulated user with roles checked asynchronously (completed later on a non vert.x thread)
+ */
+public class AsyncSimulatedUser extends SimulatedUser {
+
+	public static final AtomicInteger checks = new AtomicInteger();
+
+	public AsyncSimulatedUser(String name) {
+
+		super(name);
+	}
+
+	@Override
+	protected void doIsPermitted(String permission, Handler<AsyncResult<Boolean>> resultHandler) {
+
+		checks.incrementAndGet();
+
+		CompletableFuture.runAsync(() -> {
+			try {
+				TimeUnit.MILLISECONDS.sleep(10);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			resultHandler.handle(Future.succeededFuture(getRole() != null && getRole().equals(permission)));
+		});
+	}
+}
@@ -0,0 +1,89 @@
+package com.zandero.rest.test.data;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * Emits numbers 0..count-1 on given context, honouring pause / resume
+ */
+public class CountingReadStream implements ReadStream<Integer> {
+
+	private final Context context;
+
+	private final int count;
+
+	private int current;
+
+	private boolean paused;
+
+	private Handler<Integer> handler;
+
+	private Handler<Void> endHandler;
+
+	public CountingReadStream(Context context, int count) {
+
+		this.context = context;
+		this.count = count;
+	}
+
+	@Override
+	public ReadStream<Integer> exceptionHandler(Handler<Throwable> handler) {
+
+		return this;
+	}
+
+	@Override
+	public ReadStream<Integer> handler(Handler<Integer> handler) {
+
+		this.handler = handler;
+		if (handler != null) {
+			context.runOnContext(v -> emit());
+		}
+
+		return this;
+	}
+
+	@Override
+	public ReadStream<Integer> pause() {
+
+		paused = true;
+		return this;
+	}
+
+	@Override
+	public ReadStream<Integer> resume() {
+
+		if (paused) {
+			paused = false;
+			context.runOnContext(v -> emit());
+		}
+
+		return this;
+	}
+
+	@Override
+	public ReadStream<Integer> fetch(long amount) {
+
+		return resume();
+	}
+
+	@Override
+	public ReadStream<Integer> endHandler(Handler<Void> endHandler) {
+
+		this.endHandler = endHandler;
+		return this;
+	}
+
+	private void emit() {
+
+		while (!paused && current < count) {
+			handler.handle(current++);
+		}
+
+		if (current == count && endHandler != null) {
+			current++; // end only once
+			endHandler.handle(null);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.zandero.rest.test.data;
+
+import com.zandero.rest.context.ContextProvider;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Provides resource version from query
+ */
+public class VersionProvider implements ContextProvider<String> {
+
+	@Override
+	public String provide(HttpServerRequest request) {
+		return request.getParam("version");
+	}
+}
@@ -0,0 +1,11 @@
+package com.zandero.rest.writer;
+
+/**
+ * JSON writer writing out responses larger than 1KB in chunks
+ */
+public class ChunkedJsonResponseWriter extends JsonResponseWriter<Object> {
+
+	public ChunkedJsonResponseWriter() {
+		super(1024);
+	}
+}
@@ -0,0 +1,36 @@
+package com.zandero.rest.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.zandero.rest.test.json.Dummy;
+import io.vertx.core.json.Json;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class JsonResponseWriterTest {
+
+	@Test
+	void objectWriterCachedPerMapperTest() {
+
+		ObjectWriter writer = JsonResponseWriter.getObjectWriter(Dummy.class);
+		assertSame(writer, JsonResponseWriter.getObjectWriter(Dummy.class));
+
+		ObjectMapper original = Json.mapper;
+		try {
+			Json.mapper = new ObjectMapper();
+
+			ObjectWriter replaced = JsonResponseWriter.getObjectWriter(Dummy.class);
+			assertNotSame(writer, replaced);
+			assertSame(replaced, JsonResponseWriter.getObjectWriter(Dummy.class));
+		}
+		finally {
+			Json.mapper = original;
+		}
+
+		assertNotSame(writer, JsonResponseWriter.getObjectWriter(Dummy.class)); // started over with original mapper
+	}
+}
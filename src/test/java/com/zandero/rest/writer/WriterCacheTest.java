@@ -0,0 +1,76 @@
+package com.zandero.rest.writer;
+
+import com.zandero.rest.annotation.NoCache;
+import com.zandero.rest.test.json.Dummy;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ */
+class WriterCacheTest {
+
+	@NoCache
+	public static class NotCachedWriter implements HttpResponseWriter<Dummy> {
+
+		@Override
+		public void write(Dummy result, HttpServerRequest request, HttpServerResponse response) {
+		}
+	}
+
+	private final WriterFactory writers = new WriterFactory();
+
+	@Test
+	void cacheWriterTest() throws Exception {
+
+		WriterCache cache = new WriterCache(writers);
+		assertNull(cache.get(Dummy.class, "application/json", null, null));
+
+		TestDummyWriter writer = new TestDummyWriter();
+		cache.put(Dummy.class, "application/json", null, writers.getVersion(), writer);
+
+		assertSame(writer, cache.get(Dummy.class, "application/json", null, null));
+		assertNull(cache.get(Dummy.class, "text/plain", null, null));
+		assertNull(cache.get(String.class, "application/json", null, null));
+	}
+
+	@Test
+	void invalidateOnRegistrationTest() throws Exception {
+
+		WriterCache cache = new WriterCache(writers);
+		cache.put(Dummy.class, null, null, writers.getVersion(), new TestDummyWriter());
+		assertNotNull(cache.get(Dummy.class, null, null, null));
+
+		writers.register(Dummy.class, TestDummyWriter.class);
+		assertNull(cache.get(Dummy.class, null, null, null));
+	}
+
+	@Test
+	void notCachedWriterTest() throws Exception {
+
+		WriterCache cache = new WriterCache(writers);
+		cache.put(Dummy.class, null, null, writers.getVersion(), new NotCachedWriter());
+
+		HttpResponseWriter first = cache.get(Dummy.class, null, null, null);
+		HttpResponseWriter second = cache.get(Dummy.class, null, null, null);
+
+		assertTrue(first instanceof NotCachedWriter);
+		assertTrue(second instanceof NotCachedWriter);
+		assertNotSame(first, second);
+	}
+
+	@Test
+	void boundedCacheTest() {
+
+		WriterCache cache = new WriterCache(writers, 2);
+		cache.put(Dummy.class, "a/a", null, writers.getVersion(), new TestDummyWriter());
+		cache.put(Dummy.class, "b/b", null, writers.getVersion(), new TestDummyWriter());
+		assertEquals(2, cache.size());
+
+		cache.put(Dummy.class, "c/c", null, writers.getVersion(), new TestDummyWriter());
+		assertEquals(1, cache.size());
+	}
+}